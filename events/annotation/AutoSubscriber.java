@@ -5,7 +5,9 @@ import uwu.events.bus.EventBus;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 
@@ -17,28 +19,39 @@ public class AutoSubscriber {
 
     /**
      * Подписать все методы объекта с @Subscribe.
+     * Все методы регистрируются одной пачкой, чтобы снимки слушателей пересобирались один раз.
      */
     public static void subscribe(Object object) {
         Class<?> clazz = object.getClass();
         Map<Method, Object> methods = new HashMap<>();
+        List<uwu.events.bus.EventListener<Object>> sticky = new ArrayList<>();
 
-        for (Method method : clazz.getDeclaredMethods()) {
-            if (method.isAnnotationPresent(Subscribe.class)) {
-                Class<?>[] params = method.getParameterTypes();
-                if (params.length == 1) {
-                    Subscribe annotation = method.getAnnotation(Subscribe.class);
-                    Class<?> eventType = params[0];
+        EventBus.getInstance().registerBatch(batch -> {
+            for (Method method : clazz.getDeclaredMethods()) {
+                if (method.isAnnotationPresent(Subscribe.class)) {
+                    Class<?>[] params = method.getParameterTypes();
+                    if (params.length == 1) {
+                        Subscribe annotation = method.getAnnotation(Subscribe.class);
+                        Class<?> eventType = params[0];
 
-                    Consumer<Object> handler = createHandler(object, method, eventType);
-                    
-                    @SuppressWarnings("unchecked")
-                    uwu.events.bus.EventListener<Object> listener =
-                            (uwu.events.bus.EventListener<Object>) EventBus.getInstance()
-                                    .subscribeRaw(eventType, handler, annotation.priority(), object);
+                        Consumer<Object> handler = createHandler(object, method, eventType);
 
-                    methods.put(method, listener);
+                        uwu.events.bus.EventListener<Object> listener =
+                                batch.subscribeRaw(eventType, handler, annotation.priority(), object,
+                                        annotation.parallel(), annotation.threadMode());
+
+                        methods.put(method, listener);
+                        if (annotation.sticky()) {
+                            sticky.add(listener);
+                        }
+                    }
                 }
             }
+        });
+
+        // Sticky-события доставляются только после публикации всей пачки
+        for (uwu.events.bus.EventListener<Object> listener : sticky) {
+            EventBus.getInstance().deliverSticky(listener);
         }
 
         if (!methods.isEmpty()) {
@@ -67,20 +80,20 @@ public class AutoSubscriber {
      * Отписать все методы объекта.
      */
     public static void unsubscribe(Object object) {
-        EventBus.getInstance().unsubscribe(object);
-
         Map<Method, Object> methods = registeredMethods.remove(object);
-        if (methods != null) {
-            // Также отписываем каждый listener индивидуально
-            for (Object listener : methods.values()) {
-                if (listener instanceof uwu.events.bus.EventListener) {
-                    @SuppressWarnings("unchecked")
-                    uwu.events.bus.EventListener<Object> eventListener =
-                            (uwu.events.bus.EventListener<Object>) listener;
-                    EventBus.getInstance().unsubscribe(eventListener);
+
+        EventBus.getInstance().registerBatch(batch -> {
+            batch.unsubscribe(object);
+
+            if (methods != null) {
+                // Также отписываем каждый listener индивидуально
+                for (Object listener : methods.values()) {
+                    if (listener instanceof uwu.events.bus.EventListener) {
+                        batch.unsubscribe((uwu.events.bus.EventListener<?>) listener);
+                    }
                 }
             }
-        }
+        });
     }
 
     /**
@@ -1,6 +1,7 @@
 package uwu.events.annotation;
 
 import uwu.events.bus.Priority;
+import uwu.events.bus.ThreadMode;
 
 import java.lang.annotation.*;
 
@@ -12,4 +13,19 @@ import java.lang.annotation.*;
 @Retention(RetentionPolicy.RUNTIME)
 public @interface Subscribe {
     int priority() default Priority.NORMAL;
+
+    /**
+     * Независимый обработчик: выполняется параллельно с другими такими же обработчиками того же приоритета.
+     */
+    boolean parallel() default false;
+
+    /**
+     * Поток, в котором выполняется обработчик.
+     */
+    ThreadMode threadMode() default ThreadMode.POSTING;
+
+    /**
+     * Сразу при подписке получить последнее событие из EventBus.postSticky.
+     */
+    boolean sticky() default false;
 }
\ No newline at end of file
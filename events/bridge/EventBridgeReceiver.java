@@ -0,0 +1,102 @@
+package uwu.events.bridge;
+
+import uwu.events.bus.EventBus;
+import uwu.events.codec.EventCodecRegistry;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+/**
+ * Принимающая сторона моста: читает кольцевой файл в отдельном потоке и отправляет события в EventBus.
+ */
+public class EventBridgeReceiver implements AutoCloseable {
+
+    /**
+     * Пример использования (бэкенд):
+     * <pre>
+     * EventBridgeReceiver receiver = new EventBridgeReceiver(Paths.get("/dev/shm/proxy-to-lobby"),
+     *         codecs, Events.bus(), WaitStrategy.parking(1000, 50_000));
+     * receiver.start();
+     * </pre>
+     */
+    private final Path file;
+    private SharedMemoryRing ring;
+    private final EventCodecRegistry codecs;
+    private final EventBus eventBus;
+    private final WaitStrategy waitStrategy;
+    private final Thread thread;
+    private volatile boolean running = false;
+
+    public EventBridgeReceiver(Path file, EventCodecRegistry codecs, EventBus eventBus, WaitStrategy waitStrategy)
+            throws IOException {
+        this.file = file;
+        this.ring = SharedMemoryRing.open(file);
+        this.codecs = codecs;
+        this.eventBus = eventBus;
+        this.waitStrategy = waitStrategy;
+        this.thread = new Thread(this::run, "EventBridge-" + file.getFileName());
+        this.thread.setDaemon(true);
+    }
+
+    public synchronized void start() {
+        if (!running) {
+            running = true;
+            thread.start();
+        }
+    }
+
+    private void run() {
+        int idle = 0;
+        while (running) {
+            try {
+                if (ring.drain(this::onRecord) > 0) {
+                    idle = 0;
+                    continue;
+                }
+                if (ring.isRetired() && reopen()) {
+                    idle = 0;
+                    continue;
+                }
+            } catch (RuntimeException e) {
+                // Повреждённая запись уже пропущена кольцом, продолжаем читать
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+            }
+            waitStrategy.idle(idle++);
+        }
+    }
+
+    /**
+     * Отправитель пересоздал кольцо: дочитать старое и перейти на новый файл.
+     * false — новый файл ещё не готов, попробуем на следующей итерации.
+     */
+    private boolean reopen() {
+        SharedMemoryRing next;
+        try {
+            next = SharedMemoryRing.open(file);
+        } catch (IOException e) {
+            return false;
+        }
+        ring.drain(this::onRecord);
+        ring = next;
+        return true;
+    }
+
+    private void onRecord(int typeId, ByteBuffer payload) {
+        EventCodecRegistry.Entry<?> entry = codecs.get(typeId);
+        if (entry == null) return;
+
+        try {
+            eventBus.post(entry.getCodec().decode(payload));
+        } catch (Throwable t) {
+            // Ошибка одной записи не должна останавливать поток: иначе кольцо перестанет освобождаться
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, t);
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        thread.interrupt();
+    }
+}
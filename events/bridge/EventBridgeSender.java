@@ -0,0 +1,127 @@
+package uwu.events.bridge;
+
+import uwu.events.bus.EventBus;
+import uwu.events.bus.EventTap;
+import uwu.events.codec.EventCodecRegistry;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Отправляющая сторона моста: пересылает события с кодеком из EventBus в кольцевой файл.
+ * Если кольцо заполнено, post ждёт приёмника по WaitStrategy, но не дольше sendTimeout —
+ * затем событие отбрасывается или отправка падает, в зависимости от {@link Overflow}.
+ */
+public class EventBridgeSender implements EventTap, AutoCloseable {
+
+    /**
+     * Пример использования (прокси):
+     * <pre>
+     * EventBridgeSender sender = new EventBridgeSender(Paths.get("/dev/shm/proxy-to-lobby"),
+     *         1 << 20, codecs, WaitStrategy.busySpin());
+     * sender.sendTimeout(5, TimeUnit.MILLISECONDS).onOverflow(EventBridgeSender.Overflow.DROP);
+     * sender.attach(Events.bus());
+     * </pre>
+     */
+    public enum Overflow {
+        /** Отбросить событие и увеличить счётчик {@link #getDroppedCount()}. */
+        DROP,
+        /** Бросить IllegalStateException из post. */
+        FAIL
+    }
+
+    private static final long DEFAULT_SEND_TIMEOUT = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final SharedMemoryRing ring;
+    private final EventCodecRegistry codecs;
+    private final WaitStrategy waitStrategy;
+    private final LongAdder dropped = new LongAdder();
+    private volatile long sendTimeoutNanos = DEFAULT_SEND_TIMEOUT;
+    private volatile Overflow overflow = Overflow.DROP;
+    private EventBus bus;
+
+    public EventBridgeSender(Path file, int capacity, EventCodecRegistry codecs, WaitStrategy waitStrategy)
+            throws IOException {
+        this.ring = SharedMemoryRing.create(file, capacity);
+        this.codecs = codecs;
+        this.waitStrategy = waitStrategy;
+    }
+
+    /**
+     * Сколько ждать место в кольце, прежде чем применить политику переполнения.
+     */
+    public EventBridgeSender sendTimeout(long timeout, TimeUnit unit) {
+        if (timeout < 0) {
+            throw new IllegalArgumentException("timeout must not be negative: " + timeout);
+        }
+        this.sendTimeoutNanos = unit.toNanos(timeout);
+        return this;
+    }
+
+    public EventBridgeSender onOverflow(Overflow overflow) {
+        this.overflow = Objects.requireNonNull(overflow, "overflow");
+        return this;
+    }
+
+    /**
+     * Число событий, отброшенных из-за переполнения кольца.
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public synchronized void attach(EventBus bus) {
+        detach();
+        this.bus = bus;
+        bus.addTap(this);
+    }
+
+    public synchronized void detach() {
+        if (bus != null) {
+            bus.removeTap(this);
+            bus = null;
+        }
+    }
+
+    @Override
+    public void onPost(Object event) {
+        EventCodecRegistry.Entry<?> entry = codecs.get(event.getClass());
+        if (entry != null) {
+            send(entry, event);
+        }
+    }
+
+    /**
+     * Кольцо рассчитано на одного писателя, поэтому отправка сериализуется.
+     * Ожидание ограничено, чтобы зависший приёмник не остановил поток, вызвавший post.
+     */
+    private synchronized <T> void send(EventCodecRegistry.Entry<T> entry, Object event) {
+        T typed = entry.getEventType().cast(event);
+        long deadline = 0L;
+        for (int attempt = 0; !ring.offer(entry.getTypeId(), entry.getCodec(), typed); attempt++) {
+            if (attempt == 0) {
+                deadline = System.nanoTime() + sendTimeoutNanos;
+            } else if (System.nanoTime() - deadline >= 0) {
+                overflow(event);
+                return;
+            }
+            waitStrategy.idle(attempt);
+        }
+    }
+
+    private void overflow(Object event) {
+        if (overflow == Overflow.FAIL) {
+            throw new IllegalStateException("Event bridge ring is full, receiver is not draining: "
+                    + event.getClass().getName());
+        }
+        dropped.increment();
+    }
+
+    @Override
+    public void close() {
+        detach();
+    }
+}
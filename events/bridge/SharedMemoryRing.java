@@ -0,0 +1,213 @@
+package uwu.events.bridge;
+
+import uwu.events.codec.EventCodec;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Кольцевой буфер один-писатель/один-читатель в memory-mapped файле.
+ * Позиции записи и чтения лежат в разных кеш-линиях и публикуются через release/acquire.
+ * Файл никогда не обрезается на месте: приёмник может держать его отображённым.
+ */
+final class SharedMemoryRing {
+    static final int MAGIC = 0x55574231; // "UWB1"
+
+    private static final int CAPACITY_OFFSET = 4;
+    // Ненулевое значение: файл заменён новым кольцом, приёмнику нужно открыть его заново
+    private static final int RETIRED_OFFSET = 8;
+    private static final int HEAD_OFFSET = 64;
+    private static final int TAIL_OFFSET = 128;
+    private static final int DATA_OFFSET = 192;
+    private static final int RECORD_HEADER = 8;
+    private static final int PADDING = -1;
+
+    private static final VarHandle LONGS =
+            MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle INTS =
+            MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+
+    private final MappedByteBuffer buffer;
+    private final ByteBuffer view;
+    private final int capacity;
+
+    // Локальные копии собственных позиций: head пишет только отправитель, tail — только приёмник
+    private long head;
+    private long tail;
+
+    private SharedMemoryRing(MappedByteBuffer buffer) {
+        this.buffer = buffer;
+        this.view = buffer.duplicate();
+        this.capacity = buffer.getInt(CAPACITY_OFFSET);
+        this.head = (long) LONGS.getAcquire(buffer, HEAD_OFFSET);
+        this.tail = (long) LONGS.getAcquire(buffer, TAIL_OFFSET);
+    }
+
+    /**
+     * Создать файл кольца для отправителя. Ёмкость округляется вверх до кратной 8.
+     * Кольцо той же ёмкости, оставшееся от прошлого запуска, используется дальше как есть:
+     * приёмник продолжает читать его без перерыва. Кольцо другой ёмкости помечается
+     * заменённым и удаляется, а на его месте создаётся новое.
+     */
+    static SharedMemoryRing create(Path file, int capacity) throws IOException {
+        if (capacity < 64) {
+            throw new IllegalArgumentException("capacity is too small: " + capacity);
+        }
+        int aligned = align(capacity);
+
+        if (Files.exists(file)) {
+            SharedMemoryRing existing = tryOpen(file);
+            if (existing != null && existing.capacity == aligned && !existing.isRetired()) {
+                return existing;
+            }
+            if (existing != null) {
+                INTS.setRelease(existing.buffer, RETIRED_OFFSET, 1);
+                existing.buffer.force();
+            }
+            Files.delete(file);
+        }
+
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, DATA_OFFSET + (long) aligned);
+        }
+
+        buffer.putInt(CAPACITY_OFFSET, aligned);
+        LONGS.setRelease(buffer, HEAD_OFFSET, 0L);
+        LONGS.setRelease(buffer, TAIL_OFFSET, 0L);
+        buffer.putInt(0, MAGIC);
+        return new SharedMemoryRing(buffer);
+    }
+
+    /**
+     * Открыть кольцо, созданное другим процессом.
+     */
+    static SharedMemoryRing open(Path file) throws IOException {
+        SharedMemoryRing ring = tryOpen(file);
+        if (ring == null) {
+            throw new IOException("Not an event bridge ring: " + file);
+        }
+        return ring;
+    }
+
+    private static SharedMemoryRing tryOpen(Path file) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            if (channel.size() < DATA_OFFSET) {
+                return null;
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+        }
+
+        if (buffer.getInt(0) != MAGIC || DATA_OFFSET + (long) buffer.getInt(CAPACITY_OFFSET) != buffer.capacity()) {
+            return null;
+        }
+        return new SharedMemoryRing(buffer);
+    }
+
+    /**
+     * Отправитель заменил файл кольцом другой ёмкости: это кольцо больше не пополняется.
+     */
+    boolean isRetired() {
+        return (int) INTS.getAcquire(buffer, RETIRED_OFFSET) != 0;
+    }
+
+    /**
+     * Закодировать событие прямо в кольцо. false — сейчас нет места, нужно подождать приёмника.
+     */
+    <T> boolean offer(int typeId, EventCodec<T> codec, T event) {
+        while (true) {
+            long free = capacity - (head - (long) LONGS.getAcquire(buffer, TAIL_OFFSET));
+            int index = (int) (head % capacity);
+            int contiguous = capacity - index;
+            if (free < RECORD_HEADER) {
+                return false;
+            }
+
+            int room = (int) Math.min(free, contiguous);
+            int start = DATA_OFFSET + index;
+            view.limit(start + room).position(start + RECORD_HEADER);
+
+            try {
+                codec.encode(event, view);
+            } catch (BufferOverflowException e) {
+                if (contiguous < free) {
+                    // Не помещается до конца кольца — пропускаем хвост и пишем с начала
+                    buffer.putInt(start, PADDING);
+                    head += contiguous;
+                    LONGS.setRelease(buffer, HEAD_OFFSET, head);
+                    continue;
+                }
+                if (room == capacity) {
+                    throw new IllegalArgumentException("Event does not fit into the bridge ring: "
+                            + event.getClass().getName());
+                }
+                return false;
+            }
+
+            int length = view.position() - start - RECORD_HEADER;
+            buffer.putInt(start, typeId);
+            buffer.putInt(start + 4, length);
+            head += align(RECORD_HEADER + length);
+            LONGS.setRelease(buffer, HEAD_OFFSET, head);
+            return true;
+        }
+    }
+
+    /**
+     * Прочитать все доступные записи. Буфер payload действителен только внутри handler.
+     * Повреждённый заголовок отбрасывает все доступные записи и даёт IllegalStateException.
+     */
+    int drain(RecordHandler handler) {
+        long available = (long) LONGS.getAcquire(buffer, HEAD_OFFSET);
+        long consumed = tail;
+        int count = 0;
+
+        while (tail < available) {
+            int index = (int) (tail % capacity);
+            int start = DATA_OFFSET + index;
+            int typeId = buffer.getInt(start);
+
+            if (typeId == PADDING) {
+                tail += capacity - index;
+                continue;
+            }
+
+            int length = buffer.getInt(start + 4);
+            if (length < 0 || length > capacity - index - RECORD_HEADER) {
+                tail = available;
+                LONGS.setRelease(buffer, TAIL_OFFSET, tail);
+                throw new IllegalStateException("Corrupted bridge record at " + index + ": length " + length);
+            }
+            view.limit(start + RECORD_HEADER + length).position(start + RECORD_HEADER);
+            handler.onRecord(typeId, view);
+
+            tail += align(RECORD_HEADER + length);
+            count++;
+        }
+
+        if (tail != consumed) {
+            LONGS.setRelease(buffer, TAIL_OFFSET, tail);
+        }
+        return count;
+    }
+
+    private static int align(int size) {
+        return (size + 7) & ~7;
+    }
+
+    @FunctionalInterface
+    interface RecordHandler {
+        void onRecord(int typeId, ByteBuffer payload);
+    }
+}
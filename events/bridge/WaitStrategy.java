@@ -0,0 +1,35 @@
+package uwu.events.bridge;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Стратегия ожидания, когда кольцо пусто (приёмник) или заполнено (отправитель).
+ */
+@FunctionalInterface
+public interface WaitStrategy {
+
+    /**
+     * Подождать перед следующей попыткой. attempt — номер неудачной попытки подряд, с нуля.
+     */
+    void idle(int attempt);
+
+    /**
+     * Активное ожидание: минимальная задержка ценой целого ядра.
+     */
+    static WaitStrategy busySpin() {
+        return attempt -> Thread.onSpinWait();
+    }
+
+    /**
+     * Короткий спин, затем парковка потока на parkNanos.
+     */
+    static WaitStrategy parking(int spins, long parkNanos) {
+        return attempt -> {
+            if (attempt < spins) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(parkNanos);
+            }
+        };
+    }
+}
@@ -0,0 +1,69 @@
+package uwu.events.bus;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Счётчики EventBus для мониторинга. Посты считаются только при включённых метриках,
+ * пересборки снимков — всегда.
+ */
+final class BusMetrics {
+    static final long RATE_WINDOW_NANOS = 1_000_000_000L;
+
+    final Map<Class<?>, LongAdder> posts = new ConcurrentHashMap<>();
+    final LongAdder rebuilds = new LongAdder();
+    final LongAdder rebuildNanos = new LongAdder();
+    volatile boolean enabled = false;
+
+    // Окно замера частоты постов: счётчики на начало текущего окна и частоты за прошлое
+    private Map<Class<?>, Long> windowCounts = new HashMap<>();
+    private long windowStart = System.nanoTime();
+    private Map<Class<?>, Double> rates = new HashMap<>();
+
+    void recordPost(Class<?> eventType) {
+        posts.computeIfAbsent(eventType, k -> new LongAdder()).increment();
+    }
+
+    void recordRebuild(long duration) {
+        rebuilds.increment();
+        rebuildNanos.add(duration);
+    }
+
+    /**
+     * Посты в секунду за последнее завершённое окно. Окно закрывается не раньше чем через
+     * {@link #RATE_WINDOW_NANOS}, поэтому результат не зависит от того, кто и как часто его читает.
+     */
+    synchronized Map<Class<?>, Double> rates() {
+        long now = System.nanoTime();
+        long elapsed = now - windowStart;
+        if (elapsed >= RATE_WINDOW_NANOS) {
+            Map<Class<?>, Long> counts = new HashMap<>();
+            posts.forEach((type, count) -> counts.put(type, count.sum()));
+
+            double seconds = elapsed / 1_000_000_000.0;
+            Map<Class<?>, Double> next = new HashMap<>();
+            counts.forEach((type, count) -> {
+                long delta = count - windowCounts.getOrDefault(type, 0L);
+                next.put(type, Math.max(0, delta) / seconds);
+            });
+
+            rates = next;
+            windowCounts = counts;
+            windowStart = now;
+        }
+        return new HashMap<>(rates);
+    }
+
+    void reset() {
+        posts.clear();
+        rebuilds.reset();
+        rebuildNanos.reset();
+        synchronized (this) {
+            windowCounts = new HashMap<>();
+            windowStart = System.nanoTime();
+            rates = new HashMap<>();
+        }
+    }
+}
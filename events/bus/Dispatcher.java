@@ -0,0 +1,8 @@
+package uwu.events.bus;
+
+/**
+ * Специализированная рассылка для одного снимка слушателей.
+ */
+interface Dispatcher {
+    void dispatch(Object event);
+}
@@ -0,0 +1,54 @@
+package uwu.events.bus;
+
+import uwu.events.core.Cancellable;
+import uwu.events.core.Stoppable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Генерирует специализированные диспетчеры: по hidden class из шаблона
+ * {@link UnrolledDispatcher} на каждые {@link UnrolledDispatcher#WIDTH} слушателей.
+ */
+final class DispatcherFactory {
+    private static final MethodType CONSTRUCTOR = MethodType.methodType(void.class,
+            EventListener[].class, int.class, boolean.class, boolean.class, Dispatcher.class);
+    private static final byte[] TEMPLATE = loadTemplate();
+
+    private DispatcherFactory() {}
+
+    /**
+     * Собрать цепочку диспетчеров для отсортированных слушателей без пустых слотов.
+     * Возвращает null, если сгенерировать класс не удалось.
+     */
+    static Dispatcher create(Class<?> eventType, EventListener<?>[] listeners) {
+        if (TEMPLATE == null) return null;
+
+        boolean cancellable = Cancellable.class.isAssignableFrom(eventType);
+        boolean stoppable = Stoppable.class.isAssignableFrom(eventType);
+
+        try {
+            Dispatcher next = null;
+            int last = Math.max(0, (listeners.length - 1) / UnrolledDispatcher.WIDTH * UnrolledDispatcher.WIDTH);
+            for (int offset = last; offset >= 0; offset -= UnrolledDispatcher.WIDTH) {
+                MethodHandles.Lookup lookup = MethodHandles.lookup().defineHiddenClass(TEMPLATE, true);
+                MethodHandle constructor = lookup.findConstructor(lookup.lookupClass(), CONSTRUCTOR);
+                next = (Dispatcher) constructor.invoke(listeners, offset, cancellable && offset == 0, stoppable, next);
+            }
+            return next;
+        } catch (Throwable t) {
+            return null;
+        }
+    }
+
+    private static byte[] loadTemplate() {
+        try (InputStream in = UnrolledDispatcher.class.getResourceAsStream("UnrolledDispatcher.class")) {
+            return in != null ? in.readAllBytes() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
@@ -1,26 +1,90 @@
 package uwu.events.bus;
 
 import uwu.events.core.Cancellable;
+import uwu.events.core.Event;
 import uwu.events.core.Stoppable;
 import uwu.events.profiler.EventProfiler;
+import uwu.events.profiler.EventWatchdog;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
 
 /**
  * Современный EventBus с поддержкой приоритетов, отмены и остановки.
  */
-public class EventBus {
+public class EventBus implements AutoCloseable {
     private static final EventBus INSTANCE = new EventBus();
 
-    private final Map<Class<?>, List<EventListener<?>>> listeners = new ConcurrentHashMap<>();
-    private final Map<Object, List<EventListener<?>>> ownerListeners = new ConcurrentHashMap<>();
-    private final Map<Class<?>, List<EventListener<?>>> listenerCache = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ListenerList> listeners = new ConcurrentHashMap<>();
+    private final Map<Object, Set<EventListener<?>>> ownerListeners = new ConcurrentHashMap<>();
     private final EventProfiler profiler = EventProfiler.getInstance();
+    private final BusMetrics metrics = new BusMetrics();
+    private final Map<Class<?>, PrimitiveChannel> primitiveChannels = new ConcurrentHashMap<>();
+    private final Map<Object, Set<PrimitiveListener>> ownerPrimitives = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Object> stickyEvents = new LinkedHashMap<Class<?>, Object>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Class<?>, Object> eldest) {
+            return size() > stickyCapacity;
+        }
+    };
+    private int stickyCapacity = 64;
+
+    private final Queue<Runnable> deferred = new ConcurrentLinkedQueue<>();
+
+    private volatile EventTap[] taps = new EventTap[0];
+    private volatile EventWatchdog watchdog;
+    private volatile PartitionedDispatcher partitioned;
+    private volatile ForkJoinPool parallelPool = ForkJoinPool.commonPool();
+    private volatile boolean specializedDispatch = true;
+    private volatile int deferThreshold = Priority.NORMAL;
+    private volatile long tickBudgetNanos = 0L;
+    private volatile long tickDeadline;
+
+    private volatile Thread mainThread;
+    private volatile Executor mainExecutor;
+    private volatile Executor asyncExecutor;
+    private volatile Executor backgroundExecutor;
+
+    private final Executor mainDispatch = command -> {
+        Executor executor = mainExecutor;
+        if (executor == null || Thread.currentThread() == mainThread) {
+            command.run();
+        } else {
+            executor.execute(command);
+        }
+    };
+    private final Executor asyncDispatch = command -> asyncExecutor().execute(command);
+    private final Executor backgroundDispatch = command -> backgroundExecutor().execute(command);
 
-    private boolean dirtyCache = false;
+    // Иерархия шин: тип события -> дочерние шины, у которых есть на него слушатели
+    private final EventBus parent;
+    private final Set<EventBus> children = ConcurrentHashMap.newKeySet();
+    private final Map<Class<?>, EventBus[]> childRoutes = new ConcurrentHashMap<>();
+    private final Set<Class<?>> routedTypes = ConcurrentHashMap.newKeySet();
+    private volatile boolean hasChildRoutes = false;
+    private volatile boolean closed = false;
+
+    private EventBus() {
+        this(null);
+    }
+
+    private EventBus(EventBus parent) {
+        this.parent = parent;
+    }
 
     /**
      * Получить глобальный экземпляр EventBus.
@@ -36,6 +100,20 @@ public class EventBus {
         return new EventBus();
     }
 
+    /**
+     * Создать дочернюю шину. Она получает события, отправленные в родителя,
+     * но только тех типов, на которые у неё (или её потомков) есть слушатели.
+     */
+    public EventBus child() {
+        EventBus child = new EventBus(this);
+        children.add(child);
+        return child;
+    }
+
+    public EventBus getParent() {
+        return parent;
+    }
+
     /**
      * Подписаться на событие.
      */
@@ -54,18 +132,310 @@ public class EventBus {
      * Подписаться на событие с приоритетом и владельцем.
      */
     public <T> EventListener<T> subscribe(Class<T> eventType, Consumer<T> handler, int priority, Object owner) {
-        EventListener<T> listener = new EventListener<>(eventType, handler, priority, owner);
+        return subscribe(eventType, handler, priority, owner, false);
+    }
 
-        listeners.computeIfAbsent(eventType, k -> new CopyOnWriteArrayList<>()).add(listener);
-        dirtyCache = true;
+    /**
+     * Подписаться на событие; parallel = true разрешает выполнять обработчик параллельно
+     * с другими параллельными обработчиками того же приоритета.
+     */
+    public <T> EventListener<T> subscribe(Class<T> eventType, Consumer<T> handler, int priority, Object owner,
+                                          boolean parallel) {
+        return subscribe(eventType, handler, priority, owner, parallel, ThreadMode.POSTING);
+    }
+
+    /**
+     * Подписаться на событие с режимом потока (MAIN, ASYNC, BACKGROUND — передача из post в executor).
+     */
+    public <T> EventListener<T> subscribe(Class<T> eventType, Consumer<T> handler, int priority, Object owner,
+                                          ThreadMode threadMode) {
+        return subscribe(eventType, handler, priority, owner, false, threadMode);
+    }
+
+    public <T> EventListener<T> subscribe(Class<T> eventType, Consumer<T> handler, int priority, Object owner,
+                                          boolean parallel, ThreadMode threadMode) {
+        EventListener<T> listener = newListener(eventType, handler, priority, owner, parallel, threadMode);
+
+        listeners.computeIfAbsent(eventType, k -> new ListenerList(k, metrics)).add(listener);
+        refreshInterest(eventType);
 
         if (owner != null) {
-            ownerListeners.computeIfAbsent(owner, k -> new ArrayList<>()).add(listener);
+            ownerListeners.computeIfAbsent(owner, k -> ConcurrentHashMap.newKeySet()).add(listener);
+        }
+
+        return listener;
+    }
+
+    /**
+     * Подписаться и сразу получить последнее событие этого типа из {@link #postSticky}, если оно есть.
+     */
+    public <T> EventListener<T> subscribeSticky(Class<T> eventType, Consumer<T> handler) {
+        return subscribeSticky(eventType, handler, Priority.NORMAL, null, ThreadMode.POSTING);
+    }
+
+    public <T> EventListener<T> subscribeSticky(Class<T> eventType, Consumer<T> handler, int priority, Object owner) {
+        return subscribeSticky(eventType, handler, priority, owner, ThreadMode.POSTING);
+    }
+
+    public <T> EventListener<T> subscribeSticky(Class<T> eventType, Consumer<T> handler, int priority, Object owner,
+                                                ThreadMode threadMode) {
+        EventListener<T> listener = subscribe(eventType, handler, priority, owner, false, threadMode);
+        deliverSticky(listener);
+        return listener;
+    }
+
+    /**
+     * Доставить закешированное sticky-событие одному слушателю (остальные его уже получили).
+     */
+    public <T> void deliverSticky(EventListener<T> listener) {
+        T event = getStickyEvent(listener.getEventType());
+        if (event != null) {
+            listener.handle(event);
+        }
+    }
+
+    /**
+     * Запомнить событие как последнее для своего типа и отправить его.
+     * Кеш ограничен {@link #setStickyCapacity}; вытесняются давно не обновлявшиеся типы.
+     */
+    public <T> T postSticky(T event) {
+        if (event == null) return null;
+
+        synchronized (stickyEvents) {
+            stickyEvents.put(event.getClass(), event);
+        }
+        return post(event);
+    }
+
+    public <T> T getStickyEvent(Class<T> eventType) {
+        synchronized (stickyEvents) {
+            return eventType.cast(stickyEvents.get(eventType));
+        }
+    }
+
+    public <T> T removeStickyEvent(Class<T> eventType) {
+        synchronized (stickyEvents) {
+            return eventType.cast(stickyEvents.remove(eventType));
         }
+    }
 
+    public void clearStickyEvents() {
+        synchronized (stickyEvents) {
+            stickyEvents.clear();
+        }
+    }
+
+    public void setStickyCapacity(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        synchronized (stickyEvents) {
+            stickyCapacity = capacity;
+            Iterator<Class<?>> eldest = stickyEvents.keySet().iterator();
+            while (stickyEvents.size() > capacity) {
+                eldest.next();
+                eldest.remove();
+            }
+        }
+    }
+
+    /**
+     * Создать слушателя и привязать к нему executor его режима потока.
+     */
+    <T> EventListener<T> newListener(Class<T> eventType, Consumer<T> handler, int priority, Object owner,
+                                     boolean parallel, ThreadMode threadMode) {
+        EventListener<T> listener = new EventListener<>(eventType, handler, priority, owner, parallel, threadMode);
+        switch (threadMode) {
+            case MAIN:
+                listener.setExecutor(mainDispatch);
+                break;
+            case ASYNC:
+                listener.setExecutor(asyncDispatch);
+                break;
+            case BACKGROUND:
+                listener.setExecutor(backgroundDispatch);
+                break;
+            default:
+                break;
+        }
         return listener;
     }
 
+    /**
+     * Зарегистрировать главный поток и его executor для {@link ThreadMode#MAIN}.
+     * Если post вызван из главного потока, обработчик выполняется сразу.
+     * Пока executor не задан, MAIN-обработчики выполняются в потоке post.
+     */
+    public void setMainThreadExecutor(Thread mainThread, Executor executor) {
+        this.mainThread = mainThread;
+        this.mainExecutor = executor;
+    }
+
+    /**
+     * Executor для {@link ThreadMode#ASYNC} (например, виртуальные потоки на Java 21+).
+     */
+    public void setAsyncExecutor(Executor executor) {
+        this.asyncExecutor = executor;
+    }
+
+    private Executor asyncExecutor() {
+        Executor executor = asyncExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                if (asyncExecutor == null) {
+                    asyncExecutor = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60L, TimeUnit.SECONDS,
+                            new SynchronousQueue<>(), daemonThreads("EventBus-async"));
+                }
+                executor = asyncExecutor;
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * Один поток на шину: BACKGROUND-обработчики выполняются строго по порядку.
+     */
+    private Executor backgroundExecutor() {
+        Executor executor = backgroundExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                if (backgroundExecutor == null) {
+                    backgroundExecutor = new ThreadPoolExecutor(0, 1, 60L, TimeUnit.SECONDS,
+                            new LinkedBlockingQueue<>(), daemonThreads("EventBus-background"));
+                }
+                executor = backgroundExecutor;
+            }
+        }
+        return executor;
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        return r -> {
+            Thread t = new Thread(r, name);
+            t.setDaemon(true);
+            return t;
+        };
+    }
+
+    /**
+     * Применить пачку подписок и отписок одной транзакцией.
+     * Для каждого затронутого типа снимок слушателей пересобирается ровно один раз,
+     * а если action бросит исключение, изменения не применяются.
+     */
+    public void registerBatch(Consumer<SubscriptionBatch> action) {
+        SubscriptionBatch batch = new SubscriptionBatch(this);
+        action.accept(batch);
+        if (!batch.isEmpty()) {
+            apply(batch);
+        }
+    }
+
+    private void apply(SubscriptionBatch batch) {
+        Map<Class<?>, Set<EventListener<?>>> removed = batch.removed;
+
+        for (Object owner : batch.removedOwners) {
+            Set<EventListener<?>> owned = ownerListeners.remove(owner);
+            if (owned != null) {
+                for (EventListener<?> listener : owned) {
+                    removed.computeIfAbsent(listener.getEventType(), k -> new HashSet<>()).add(listener);
+                }
+            }
+        }
+
+        Set<Class<?>> types = new LinkedHashSet<>(batch.added.keySet());
+        types.addAll(removed.keySet());
+
+        for (Class<?> type : types) {
+            List<EventListener<?>> toAdd = batch.added.getOrDefault(type, Collections.emptyList());
+            Set<EventListener<?>> toRemove = removed.getOrDefault(type, Collections.emptySet());
+
+            ListenerList list = toAdd.isEmpty()
+                    ? listeners.get(type)
+                    : listeners.computeIfAbsent(type, k -> new ListenerList(k, metrics));
+            if (list != null) {
+                list.apply(toAdd, toRemove);
+                refreshInterest(type);
+            }
+
+            for (EventListener<?> listener : toRemove) {
+                if (listener.getOwner() != null) {
+                    Set<EventListener<?>> owned = ownerListeners.get(listener.getOwner());
+                    if (owned != null) {
+                        owned.remove(listener);
+                    }
+                }
+            }
+            for (EventListener<?> listener : toAdd) {
+                if (listener.getOwner() != null) {
+                    ownerListeners.computeIfAbsent(listener.getOwner(), k -> ConcurrentHashMap.newKeySet()).add(listener);
+                }
+            }
+        }
+    }
+
+    /**
+     * Подписаться на int-канал. Канал — любой класс события, используемый как метка.
+     */
+    public PrimitiveListener subscribeInt(Class<? extends Event> channel, IntConsumer handler) {
+        return subscribeInt(channel, handler, Priority.NORMAL, null);
+    }
+
+    public PrimitiveListener subscribeInt(Class<? extends Event> channel, IntConsumer handler, int priority, Object owner) {
+        return subscribePrimitive(channel, handler, priority, owner, primitiveChannel(channel).ints);
+    }
+
+    /**
+     * Подписаться на long-канал.
+     */
+    public PrimitiveListener subscribeLong(Class<? extends Event> channel, LongConsumer handler) {
+        return subscribeLong(channel, handler, Priority.NORMAL, null);
+    }
+
+    public PrimitiveListener subscribeLong(Class<? extends Event> channel, LongConsumer handler, int priority, Object owner) {
+        return subscribePrimitive(channel, handler, priority, owner, primitiveChannel(channel).longs);
+    }
+
+    /**
+     * Подписаться на double-канал.
+     */
+    public PrimitiveListener subscribeDouble(Class<? extends Event> channel, DoubleConsumer handler) {
+        return subscribeDouble(channel, handler, Priority.NORMAL, null);
+    }
+
+    public PrimitiveListener subscribeDouble(Class<? extends Event> channel, DoubleConsumer handler, int priority,
+                                             Object owner) {
+        return subscribePrimitive(channel, handler, priority, owner, primitiveChannel(channel).doubles);
+    }
+
+    private PrimitiveChannel primitiveChannel(Class<?> channel) {
+        return primitiveChannels.computeIfAbsent(channel, k -> new PrimitiveChannel());
+    }
+
+    private PrimitiveListener subscribePrimitive(Class<?> channel, Object handler, int priority, Object owner,
+                                                 PrimitiveChannel.Table<?> table) {
+        PrimitiveListener listener = new PrimitiveListener(channel, handler, priority, owner, table);
+        table.add(listener);
+
+        if (owner != null) {
+            ownerPrimitives.computeIfAbsent(owner, k -> ConcurrentHashMap.newKeySet()).add(listener);
+        }
+        return listener;
+    }
+
+    /**
+     * Отписать обработчик примитивного канала.
+     */
+    public void unsubscribe(PrimitiveListener listener) {
+        listener.table.remove(listener);
+
+        if (listener.getOwner() != null) {
+            Set<PrimitiveListener> owned = ownerPrimitives.get(listener.getOwner());
+            if (owned != null) {
+                owned.remove(listener);
+            }
+        }
+    }
+
     /*
     * ВНИМАНИЕ НЕ СОВЕТУЮ ИСПОЛЬЗОВАТЬ RAW МЕТОДЫ ГДЕ-ЛИБО!
     * */
@@ -98,17 +468,25 @@ public class EventBus {
 
     /**
      * Отписать владельца от всех событий.
+     * Каждый слушатель удаляется за O(1), снимки уплотняются лениво.
      */
     public void unsubscribe(Object owner) {
-        List<EventListener<?>> owned = ownerListeners.remove(owner);
+        Set<EventListener<?>> owned = ownerListeners.remove(owner);
         if (owned != null) {
             for (EventListener<?> listener : owned) {
-                List<EventListener<?>> list = listeners.get(listener.getEventType());
+                ListenerList list = listeners.get(listener.getEventType());
                 if (list != null) {
                     list.remove(listener);
+                    refreshInterest(listener.getEventType());
                 }
             }
-            dirtyCache = true;
+        }
+
+        Set<PrimitiveListener> primitives = ownerPrimitives.remove(owner);
+        if (primitives != null) {
+            for (PrimitiveListener listener : primitives) {
+                listener.table.remove(listener);
+            }
         }
     }
 
@@ -116,14 +494,14 @@ public class EventBus {
      * Отписать конкретный listener.
      */
     public void unsubscribe(EventListener<?> listener) {
-        List<EventListener<?>> list = listeners.get(listener.getEventType());
+        ListenerList list = listeners.get(listener.getEventType());
         if (list != null) {
             list.remove(listener);
-            dirtyCache = true;
+            refreshInterest(listener.getEventType());
         }
 
         if (listener.getOwner() != null) {
-            List<EventListener<?>> owned = ownerListeners.get(listener.getOwner());
+            Set<EventListener<?>> owned = ownerListeners.get(listener.getOwner());
             if (owned != null) {
                 owned.remove(listener);
             }
@@ -132,49 +510,487 @@ public class EventBus {
 
     /**
      * Отправить событие.
+     * Если задан бюджет тика ({@link #setTickBudget}), действует дедлайн текущего тика.
      */
-    @SuppressWarnings("unchecked")
     public <T> T post(T event) {
         if (event == null) return null;
 
-        List<EventListener<?>> eventListeners = getSortedListeners(event.getClass());
+        if (tickBudgetNanos > 0) {
+            return dispatch(event, true, tickDeadline);
+        }
+        return dispatch(event, false, 0L);
+    }
+
+    /**
+     * Отправить событие с дедлайном (абсолютное значение System.nanoTime()).
+     * После дедлайна слушатели с приоритетом ниже порога откладываются до {@link #runDeferred()}.
+     */
+    public <T> T post(T event, long deadlineNanos) {
+        if (event == null) return null;
+        return dispatch(event, true, deadlineNanos);
+    }
+
+    /**
+     * Отправить int без создания объекта события.
+     */
+    public void postInt(Class<? extends Event> channel, int value) {
+        PrimitiveChannel primitive = primitiveChannels.get(channel);
+        if (primitive == null) return;
+
+        if (metrics.enabled) {
+            metrics.recordPost(channel);
+        }
+        for (IntConsumer handler : primitive.ints.handlers) {
+            handler.accept(value);
+        }
+    }
+
+    /**
+     * Отправить long без создания объекта события.
+     */
+    public void postLong(Class<? extends Event> channel, long value) {
+        PrimitiveChannel primitive = primitiveChannels.get(channel);
+        if (primitive == null) return;
+
+        if (metrics.enabled) {
+            metrics.recordPost(channel);
+        }
+        for (LongConsumer handler : primitive.longs.handlers) {
+            handler.accept(value);
+        }
+    }
+
+    /**
+     * Отправить double без создания объекта события.
+     */
+    public void postDouble(Class<? extends Event> channel, double value) {
+        PrimitiveChannel primitive = primitiveChannels.get(channel);
+        if (primitive == null) return;
+
+        if (metrics.enabled) {
+            metrics.recordPost(channel);
+        }
+        for (DoubleConsumer handler : primitive.doubles.handlers) {
+            handler.accept(value);
+        }
+    }
+
+    private <T> T dispatch(T event, boolean bounded, long deadline) {
+        if (metrics.enabled) {
+            metrics.recordPost(event.getClass());
+        }
+        for (EventTap tap : taps) {
+            tap.onPost(event);
+        }
+
+        ListenerList list = listeners.get(event.getClass());
+        if (list != null) {
+            dispatch(event, list, bounded, deadline);
+        }
+
+        if (hasChildRoutes) {
+            forwardToChildren(event, bounded, deadline);
+        }
+        return event;
+    }
+
+    private <T> void dispatch(T event, ListenerList list, boolean bounded, long deadline) {
+        // Сгенерированный диспетчер не умеет замеры и дедлайны — тогда общий цикл
+        if (specializedDispatch && !bounded && watchdog == null && !profiler.isEnabled()) {
+            Dispatcher dispatcher = list.dispatcher();
+            if (dispatcher != null) {
+                dispatcher.dispatch(event);
+                return;
+            }
+            list.recordGenericPost();
+        }
+
+        dispatch(event, list.snapshot(), list.hasParallel(), 0, bounded, deadline);
+    }
+
+    /**
+     * Передать событие дочерним шинам, заинтересованным в его типе.
+     * Остановленное событие дальше не идёт.
+     */
+    private <T> void forwardToChildren(T event, boolean bounded, long deadline) {
+        EventBus[] targets = childRoutes.get(event.getClass());
+        if (targets == null) return;
+
+        for (EventBus child : targets) {
+            if (event instanceof Stoppable && ((Stoppable) event).isStopped()) break;
+            child.dispatch(event, bounded, deadline);
+        }
+    }
+
+    /**
+     * Сообщить родителю, нужен ли этой шине тип события. Вызывается после каждого изменения слушателей.
+     */
+    private void refreshInterest(Class<?> eventType) {
+        EventBus parent = this.parent;
+        if (parent == null) return;
+
+        synchronized (routedTypes) {
+            boolean interested = !closed && (hasListeners(eventType) || childRoutes.containsKey(eventType));
+            if (interested ? routedTypes.add(eventType) : routedTypes.remove(eventType)) {
+                parent.route(eventType, this, interested);
+            }
+        }
+    }
+
+    private void route(Class<?> eventType, EventBus child, boolean interested) {
+        synchronized (childRoutes) {
+            EventBus[] current = childRoutes.getOrDefault(eventType, new EventBus[0]);
+            EventBus[] next;
+            if (interested) {
+                next = Arrays.copyOf(current, current.length + 1);
+                next[current.length] = child;
+            } else {
+                next = Arrays.stream(current).filter(bus -> bus != child).toArray(EventBus[]::new);
+            }
+
+            if (next.length == 0) {
+                childRoutes.remove(eventType);
+            } else {
+                childRoutes.put(eventType, next);
+            }
+            hasChildRoutes = !childRoutes.isEmpty();
+        }
+
+        // Интерес потомков делает заинтересованной и эту шину
+        refreshInterest(eventType);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> void dispatch(T event, EventListener<?>[] eventListeners, boolean parallel, int from,
+                              boolean bounded, long deadline) {
+        EventWatchdog watchdog = this.watchdog;
+        boolean timed = watchdog != null || profiler.isEnabled();
+        int threshold = deferThreshold;
 
         boolean cancelled = false;
         if (event instanceof Cancellable) {
             cancelled = ((Cancellable) event).isCancelled();
         }
 
-          for (EventListener<?> listener : eventListeners) {
+        for (int i = from; i < eventListeners.length; i++) {
             if (cancelled) break; // Отменённые события не обрабатываются
 
-            ((EventListener<T>) listener).handle(event);
+            EventListener<?> listener = ListenerList.slot(eventListeners, i);
+            // Слот удалённого слушателя. Отложенный хвост держит старый снимок, который после
+            // пересборки уже не зануляется, поэтому регистрацию проверяем и по самому слушателю
+            if (listener == null || listener.slot < 0) continue;
+
+            // Слушатели отсортированы, поэтому всё, что дальше, тоже ниже порога
+            if (bounded && listener.getPriority() < threshold && System.nanoTime() - deadline > 0) {
+                int next = i;
+                deferred.add(() -> dispatch(event, eventListeners, parallel, next, false, 0L));
+                break;
+            }
+
+            if (parallel && listener.isParallel()) {
+                int end = tierEnd(eventListeners, i, listener.getPriority());
+                dispatchTier(event, eventListeners, i, end, timed, watchdog);
+                i = end - 1;
+            } else if (timed) {
+                handleTimed((EventListener<T>) listener, event, watchdog);
+            } else {
+                ((EventListener<T>) listener).handle(event);
+            }
 
             if (event instanceof Stoppable && ((Stoppable) event).isStopped()) {
                 break;
             }
         }
+    }
 
-        return event;
+    /**
+     * Включить многопоточную рассылку по ключу: keyFunction выбирает раздел для postPartitioned.
+     */
+    public synchronized PartitionedDispatcher enablePartitionedDispatch(int threads, Function<Object, ?> keyFunction) {
+        disablePartitionedDispatch();
+        partitioned = new PartitionedDispatcher(this, threads, keyFunction);
+        return partitioned;
+    }
+
+    public synchronized void disablePartitionedDispatch() {
+        if (partitioned != null) {
+            partitioned.shutdown();
+            partitioned = null;
+        }
+    }
+
+    public PartitionedDispatcher getPartitionedDispatcher() {
+        return partitioned;
     }
 
     /**
-     * Получить отсортированные слушатели для типа события.
+     * Поставить событие в очередь раздела, выбранного по ключу из keyFunction.
      */
-    private List<EventListener<?>> getSortedListeners(Class<?> eventType) {
-        if (dirtyCache) {
-            listenerCache.clear();
-            dirtyCache = false;
+    public <T> void postPartitioned(T event) {
+        if (event == null) return;
+        requirePartitioned().post(event);
+    }
+
+    /**
+     * Поставить событие в очередь раздела для явного ключа (мир, измерение, регион).
+     */
+    public <T> void postPartitioned(Object key, T event) {
+        if (event == null) return;
+        requirePartitioned().post(key, event);
+    }
+
+    private PartitionedDispatcher requirePartitioned() {
+        PartitionedDispatcher dispatcher = partitioned;
+        if (dispatcher == null) {
+            throw new IllegalStateException("Partitioned dispatch is not enabled");
         }
+        return dispatcher;
+    }
 
-        return listenerCache.computeIfAbsent(eventType, k -> {
-            List<EventListener<?>> list = listeners.get(eventType);
-            if (list == null) return Collections.emptyList();
+    /**
+     * Начать новый тик: выполнить отложенных слушателей и отсчитать бюджет заново.
+     */
+    public void beginTick() {
+        runDeferred();
+        if (tickBudgetNanos > 0) {
+            tickDeadline = System.nanoTime() + tickBudgetNanos;
+        }
+    }
 
-            // Сортировка по приоритету (высший приоритет = первым)
-            List<EventListener<?>> sorted = new ArrayList<>(list);
-            sorted.sort((a, b) -> Integer.compare(b.getPriority(), a.getPriority()));
-            return Collections.unmodifiableList(sorted);
+    /**
+     * Выполнить слушателей, отложенных из-за дедлайна, в том числе в дочерних шинах:
+     * пересланные им события откладываются с дедлайном родителя.
+     */
+    public void runDeferred() {
+        for (int pending = deferred.size(); pending > 0; pending--) {
+            Runnable task = deferred.poll();
+            if (task == null) break;
+            task.run();
+        }
+
+        for (EventBus child : children) {
+            child.runDeferred();
+        }
+    }
+
+    /**
+     * Бюджет времени на тик для всех post без явного дедлайна (0 — выключить).
+     */
+    public void setTickBudget(long budget, TimeUnit unit) {
+        this.tickBudgetNanos = unit.toNanos(budget);
+        this.tickDeadline = System.nanoTime() + tickBudgetNanos;
+    }
+
+    /**
+     * Слушатели с приоритетом ниже порога могут быть отложены (по умолчанию {@link Priority#NORMAL}).
+     */
+    public void setDeferThreshold(int priority) {
+        this.deferThreshold = priority;
+    }
+
+    /**
+     * Число отложенных слушателей этой шины и её дочерних шин.
+     */
+    public int getDeferredCount() {
+        int count = deferred.size();
+        for (EventBus child : children) {
+            count += child.getDeferredCount();
+        }
+        return count;
+    }
+
+    /**
+     * Конец группы слушателей с приоритетом priority, начинающейся с eventListeners[from].
+     */
+    private static int tierEnd(EventListener<?>[] eventListeners, int from, int priority) {
+        int end = from + 1;
+        while (end < eventListeners.length) {
+            EventListener<?> listener = ListenerList.slot(eventListeners, end);
+            if (listener != null && listener.getPriority() != priority) break;
+            end++;
+        }
+        return end;
+    }
+
+    /**
+     * Выполнить остаток группы одного приоритета: параллельные слушатели уходят в пул,
+     * остальные выполняются по порядку в текущем потоке. Возврат только после завершения всех.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> void dispatchTier(T event, EventListener<?>[] eventListeners, int from, int end,
+                                  boolean timed, EventWatchdog watchdog) {
+        List<EventListener<T>> concurrent = new ArrayList<>();
+        List<EventListener<T>> sequential = new ArrayList<>();
+        for (int i = from; i < end; i++) {
+            EventListener<T> listener = (EventListener<T>) ListenerList.slot(eventListeners, i);
+            if (listener == null || listener.slot < 0) continue;
+            (listener.isParallel() ? concurrent : sequential).add(listener);
+        }
+
+        // Без последовательных слушателей один из параллельных выполняем сами
+        EventListener<T> inline = sequential.isEmpty() ? concurrent.remove(concurrent.size() - 1) : null;
+
+        ForkJoinPool pool = parallelPool;
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(concurrent.size());
+        for (EventListener<T> listener : concurrent) {
+            tasks.add(pool.submit(() -> invoke(listener, event, timed, watchdog)));
+        }
+
+        RuntimeException failure = null;
+        try {
+            if (inline != null) {
+                invoke(inline, event, timed, watchdog);
+            }
+            for (EventListener<T> listener : sequential) {
+                invoke(listener, event, timed, watchdog);
+            }
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+
+        for (ForkJoinTask<?> task : tasks) {
+            try {
+                task.join();
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private <T> void invoke(EventListener<T> listener, T event, boolean timed, EventWatchdog watchdog) {
+        if (timed) {
+            handleTimed(listener, event, watchdog);
+        } else {
+            listener.handle(event);
+        }
+    }
+
+    /**
+     * Генерировать специализированные диспетчеры для устоявшихся наборов слушателей (по умолчанию включено).
+     */
+    public void setSpecializedDispatch(boolean enabled) {
+        this.specializedDispatch = enabled;
+    }
+
+    /**
+     * Пул для параллельных слушателей (по умолчанию общий ForkJoinPool).
+     */
+    public void setParallelPool(ForkJoinPool pool) {
+        this.parallelPool = pool;
+    }
+
+    /**
+     * Вызвать слушателя с замером времени для профайлера и сторожа.
+     */
+    private <T> void handleTimed(EventListener<T> listener, T event, EventWatchdog watchdog) {
+        long start = System.nanoTime();
+        try {
+            listener.handle(event);
+        } finally {
+            // Долгий обработчик, который в итоге упал, тоже должен попасть в бюджет
+            long duration = System.nanoTime() - start;
+
+            if (profiler.isEnabled()) {
+                profiler.record(listener, event.getClass(), duration);
+            }
+            if (watchdog != null) {
+                watchdog.record(this, listener, event, duration);
+            }
+        }
+    }
+
+    /**
+     * Добавить наблюдателя за всеми отправляемыми событиями (запись, мосты).
+     */
+    public synchronized void addTap(EventTap tap) {
+        EventTap[] next = Arrays.copyOf(taps, taps.length + 1);
+        next[taps.length] = tap;
+        taps = next;
+    }
+
+    public synchronized void removeTap(EventTap tap) {
+        taps = Arrays.stream(taps).filter(t -> t != tap).toArray(EventTap[]::new);
+    }
+
+    /**
+     * Установить сторожа бюджета задержки (null — выключить).
+     */
+    public void setWatchdog(EventWatchdog watchdog) {
+        this.watchdog = watchdog;
+    }
+
+    public EventWatchdog getWatchdog() {
+        return watchdog;
+    }
+
+    /**
+     * Включить подсчёт отправленных событий по типам.
+     */
+    public void enableMetrics() {
+        metrics.enabled = true;
+    }
+
+    public void disableMetrics() {
+        metrics.enabled = false;
+    }
+
+    public boolean isMetricsEnabled() {
+        return metrics.enabled;
+    }
+
+    public void resetMetrics() {
+        metrics.reset();
+    }
+
+    /**
+     * Число отправленных событий по типам с момента включения метрик.
+     */
+    public Map<Class<?>, Long> getPostCounts() {
+        Map<Class<?>, Long> counts = new HashMap<>();
+        metrics.posts.forEach((type, count) -> counts.put(type, count.sum()));
+        return counts;
+    }
+
+    /**
+     * Посты в секунду по типам за последнее завершённое секундное окно.
+     */
+    public Map<Class<?>, Double> getPostRates() {
+        return metrics.rates();
+    }
+
+    /**
+     * Число активных подписок по типам событий.
+     */
+    public Map<Class<?>, Integer> getListenerCounts() {
+        Map<Class<?>, Integer> counts = new HashMap<>();
+        listeners.forEach((type, list) -> {
+            if (!list.isEmpty()) {
+                counts.put(type, list.size());
+            }
         });
+        return counts;
+    }
+
+    /**
+     * Сколько раз пересобирались снимки слушателей.
+     */
+    public long getSnapshotRebuildCount() {
+        return metrics.rebuilds.sum();
+    }
+
+    /**
+     * Суммарное время пересборок снимков в наносекундах.
+     */
+    public long getSnapshotRebuildTime() {
+        return metrics.rebuildNanos.sum();
     }
 
     /**
@@ -183,15 +999,40 @@ public class EventBus {
     public void clear() {
         listeners.clear();
         ownerListeners.clear();
-        listenerCache.clear();
-        dirtyCache = false;
+        primitiveChannels.clear();
+        ownerPrimitives.clear();
+        clearStickyEvents();
+        deferred.clear();
+
+        for (Class<?> type : routedTypes.toArray(new Class<?>[0])) {
+            refreshInterest(type);
+        }
+    }
+
+    /**
+     * Закрыть шину: удалить всех слушателей разом, закрыть дочерние шины
+     * и отсоединиться от родителя. Закрытая дочерняя шина больше не получает события.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (EventBus child : children) {
+            child.close();
+        }
+        children.clear();
+
+        clear();
+        disablePartitionedDispatch();
+        if (parent != null) {
+            parent.children.remove(this);
+        }
     }
 
     /**
      * Проверить, есть ли слушатели для типа события.
      */
     public boolean hasListeners(Class<?> eventType) {
-        List<EventListener<?>> list = listeners.get(eventType);
+        ListenerList list = listeners.get(eventType);
         return list != null && !list.isEmpty();
     }
 }
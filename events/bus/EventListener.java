@@ -1,5 +1,6 @@
 package uwu.events.bus;
 
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
 /**
@@ -10,18 +11,45 @@ public class EventListener<T> {
     private final Consumer<T> handler;
     private final int priority;
     private final Object owner;
-    private boolean active = true;
+    private final boolean parallel;
+    private final ThreadMode threadMode;
+    private volatile boolean active = true;
+    private volatile Executor executor;
+    private volatile ListenerGate gate;
+
+    // Индекс в снимке ListenerList, -1 если слушатель не зарегистрирован
+    int slot = -1;
 
     public EventListener(Class<T> eventType, Consumer<T> handler, int priority, Object owner) {
+        this(eventType, handler, priority, owner, false);
+    }
+
+    /**
+     * @param parallel слушатель независим и может выполняться параллельно
+     *                 с другими такими же слушателями того же приоритета
+     */
+    public EventListener(Class<T> eventType, Consumer<T> handler, int priority, Object owner, boolean parallel) {
+        this(eventType, handler, priority, owner, parallel, ThreadMode.POSTING);
+    }
+
+    public EventListener(Class<T> eventType, Consumer<T> handler, int priority, Object owner, boolean parallel,
+                         ThreadMode threadMode) {
         this.eventType = eventType;
         this.handler = handler;
         this.priority = priority;
         this.owner = owner;
+        this.parallel = parallel;
+        this.threadMode = threadMode;
     }
 
     public void handle(T event) {
-        if (active) {
-            handler.accept(event);
+        if (canHandle()) {
+            Executor executor = this.executor;
+            if (executor == null) {
+                handler.accept(event);
+            } else {
+                executor.execute(() -> handler.accept(event));
+            }
         }
     }
 
@@ -29,10 +57,37 @@ public class EventListener<T> {
         this.active = active;
     }
 
+    /**
+     * Слушатель активен и его шлюз (если есть) не приостановлен.
+     */
+    boolean canHandle() {
+        ListenerGate gate = this.gate;
+        return active && (gate == null || !gate.isSuspended());
+    }
+
+    /**
+     * Подчинить слушателя общему шлюзу (null — без шлюза).
+     * Чтобы слушатель ни разу не сработал в обход шлюза, выставлять до регистрации в EventBus.
+     */
+    public void setGate(ListenerGate gate) {
+        this.gate = gate;
+    }
+
+    /**
+     * Перевести обработчик на выполнение через executor (null = синхронно в post).
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
     // Getters
     public Class<T> getEventType() { return eventType; }
     public Consumer<T> getHandler() { return handler; }
     public int getPriority() { return priority; }
     public Object getOwner() { return owner; }
+    public boolean isParallel() { return parallel; }
+    public ThreadMode getThreadMode() { return threadMode; }
     public boolean isActive() { return active; }
+    public Executor getExecutor() { return executor; }
+    public ListenerGate getGate() { return gate; }
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package uwu.events.bus;
+
+/**
+ * Наблюдатель за всеми событиями, отправленными в EventBus.
+ * Вызывается до рассылки слушателям, даже если слушателей нет.
+ */
+@FunctionalInterface
+public interface EventTap {
+    void onPost(Object event);
+}
@@ -0,0 +1,21 @@
+package uwu.events.bus;
+
+/**
+ * Общий выключатель для группы слушателей. Проверяется в {@link EventListener#handle}
+ * и в сгенерированных диспетчерах, поэтому обработчики не нужно оборачивать.
+ */
+public final class ListenerGate {
+    private volatile boolean suspended = false;
+
+    public void suspend() {
+        suspended = true;
+    }
+
+    public void resume() {
+        suspended = false;
+    }
+
+    public boolean isSuspended() {
+        return suspended;
+    }
+}
@@ -0,0 +1,194 @@
+package uwu.events.bus;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.*;
+
+/**
+ * Слушатели одного типа события с готовым к рассылке снимком.
+ * Снимок отсортирован по приоритету и публикуется целиком при каждом добавлении.
+ * Удаление только зануляет слот слушателя, а снимок уплотняется лениво,
+ * когда доля мёртвых слотов превышает {@link #COMPACT_RATIO}.
+ */
+final class ListenerList {
+    private static final EventListener<?>[] EMPTY = new EventListener<?>[0];
+    private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(EventListener[].class);
+    private static final double COMPACT_RATIO = 0.25;
+    // Сколько постов подряд без изменений нужно, чтобы набор считался устоявшимся
+    private static final int STABLE_POSTS = 1024;
+    // Порог удваивается после каждого сброса диспетчера, чтобы не генерировать классы при частой смене слушателей
+    private static final int MAX_STABLE_POSTS = STABLE_POSTS << 6;
+    private static final int MAX_SPECIALIZED = 64;
+
+    private volatile EventListener<?>[] snapshot = EMPTY;
+    private volatile boolean parallel = false;
+    private volatile int size = 0;
+    private int dead = 0;
+
+    private volatile Dispatcher dispatcher;
+    // Можно ли специализировать текущий набор; пока нельзя, посты не считаются
+    private volatile boolean eligible = false;
+    private int stablePosts = STABLE_POSTS;
+    private int posts = 0;
+
+    private final Class<?> eventType;
+    private final BusMetrics metrics;
+
+    ListenerList(Class<?> eventType, BusMetrics metrics) {
+        this.eventType = eventType;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Текущий снимок для рассылки (высший приоритет = первым).
+     * Может содержать null на месте удалённых слушателей.
+     */
+    EventListener<?>[] snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Прочитать слот опубликованного снимка. Парный release в {@link #kill} гарантирует,
+     * что после возврата из unsubscribe другие потоки больше не увидят слушателя.
+     */
+    static EventListener<?> slot(EventListener<?>[] snapshot, int index) {
+        return (EventListener<?>) SLOTS.getAcquire(snapshot, index);
+    }
+
+    /**
+     * Есть ли в снимке слушатели, которые можно выполнять параллельно.
+     */
+    boolean hasParallel() {
+        return parallel;
+    }
+
+    /**
+     * Специализированный диспетчер для устоявшегося набора слушателей или null.
+     */
+    Dispatcher dispatcher() {
+        return dispatcher;
+    }
+
+    /**
+     * Учесть пост через общий цикл. Счётчик неточен при гонках — это только эвристика.
+     */
+    void recordGenericPost() {
+        if (eligible && ++posts == stablePosts) {
+            specialize();
+        }
+    }
+
+    private synchronized void specialize() {
+        if (dispatcher != null || !eligible) return;
+
+        List<EventListener<?>> live = new ArrayList<>(size);
+        for (EventListener<?> listener : snapshot) {
+            if (listener != null) {
+                live.add(listener);
+            }
+        }
+        dispatcher = DispatcherFactory.create(eventType, live.toArray(EMPTY));
+        // Не получилось — не пытаемся снова до следующего изменения набора
+        eligible = false;
+    }
+
+    /**
+     * Сбросить диспетчер после изменения набора слушателей.
+     */
+    private void invalidate() {
+        if (dispatcher != null) {
+            dispatcher = null;
+            stablePosts = Math.min(stablePosts << 1, MAX_STABLE_POSTS);
+        }
+        posts = 0;
+        eligible = !parallel && size > 0 && size <= MAX_SPECIALIZED;
+    }
+
+    synchronized void add(EventListener<?> listener) {
+        rebuild(Collections.singletonList(listener));
+    }
+
+    synchronized void remove(EventListener<?> listener) {
+        if (kill(listener)) {
+            compactIfNeeded();
+        }
+    }
+
+    /**
+     * Применить добавления и удаления за одно копирование и опубликовать новый снимок.
+     */
+    synchronized void apply(Collection<EventListener<?>> added, Collection<EventListener<?>> removed) {
+        for (EventListener<?> listener : removed) {
+            kill(listener);
+        }
+
+        if (added.isEmpty()) {
+            compactIfNeeded();
+        } else {
+            rebuild(added);
+        }
+    }
+
+    /**
+     * Освободить слот слушателя за O(1).
+     */
+    private boolean kill(EventListener<?> listener) {
+        EventListener<?>[] current = snapshot;
+        int slot = listener.slot;
+        if (slot < 0 || slot >= current.length || current[slot] != listener) {
+            return false;
+        }
+
+        // slot сбрасывается до release: увидевший пустой слот увидит и снятую регистрацию
+        listener.slot = -1;
+        SLOTS.setRelease(current, slot, null);
+        dead++;
+        size--;
+        invalidate();
+        return true;
+    }
+
+    private void compactIfNeeded() {
+        if (dead > 0 && dead >= snapshot.length * COMPACT_RATIO) {
+            rebuild(Collections.emptyList());
+        }
+    }
+
+    private void rebuild(Collection<EventListener<?>> added) {
+        long start = System.nanoTime();
+        EventListener<?>[] current = snapshot;
+        List<EventListener<?>> next = new ArrayList<>(current.length - dead + added.size());
+
+        for (EventListener<?> listener : current) {
+            if (listener != null) {
+                next.add(listener);
+            }
+        }
+        next.addAll(added);
+
+        // Стабильная сортировка сохраняет порядок подписки внутри одного приоритета
+        next.sort((a, b) -> Integer.compare(b.getPriority(), a.getPriority()));
+
+        EventListener<?>[] array = next.toArray(EMPTY);
+        boolean hasParallel = false;
+        for (int i = 0; i < array.length; i++) {
+            array[i].slot = i;
+            hasParallel |= array[i].isParallel();
+        }
+
+        parallel = hasParallel;
+        dead = 0;
+        size = array.length;
+        invalidate();
+        snapshot = array;
+        metrics.recordRebuild(System.nanoTime() - start);
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+}
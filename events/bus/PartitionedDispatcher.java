@@ -0,0 +1,119 @@
+package uwu.events.bus;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * Рассылка событий на N рабочих потоков по хешу ключа.
+ * События с одинаковым ключом обрабатываются по порядку одним потоком,
+ * с разными ключами — параллельно.
+ */
+public final class PartitionedDispatcher {
+    private final EventBus eventBus;
+    private final Function<Object, ?> keyFunction;
+    private final Worker[] workers;
+
+    PartitionedDispatcher(EventBus eventBus, int threads, Function<Object, ?> keyFunction) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be positive: " + threads);
+        }
+        this.eventBus = eventBus;
+        this.keyFunction = keyFunction;
+        this.workers = new Worker[threads];
+        for (int i = 0; i < threads; i++) {
+            workers[i] = new Worker("EventBus-partition-" + i);
+            workers[i].thread.start();
+        }
+    }
+
+    void post(Object event) {
+        post(keyFunction.apply(event), event);
+    }
+
+    void post(Object key, Object event) {
+        workers[partition(key)].enqueue(event);
+    }
+
+    private int partition(Object key) {
+        if (key == null) return 0;
+        int h = key.hashCode();
+        return Math.floorMod(h ^ (h >>> 16), workers.length);
+    }
+
+    public int getPartitionCount() {
+        return workers.length;
+    }
+
+    /**
+     * Суммарное число событий, ожидающих в очередях всех потоков.
+     */
+    public int getQueueDepth() {
+        int depth = 0;
+        for (Worker worker : workers) {
+            depth += worker.queue.size();
+        }
+        return depth;
+    }
+
+    /**
+     * Остановить потоки. Уже поставленные в очередь события будут обработаны.
+     */
+    void shutdown() {
+        for (Worker worker : workers) {
+            worker.running = false;
+            LockSupport.unpark(worker.thread);
+        }
+    }
+
+    private final class Worker implements Runnable {
+        private final Queue<Object> queue = new ConcurrentLinkedQueue<>();
+        private final Thread thread;
+        private volatile boolean running = true;
+        private volatile boolean parked = false;
+
+        Worker(String name) {
+            this.thread = new Thread(this, name);
+            this.thread.setDaemon(true);
+        }
+
+        void enqueue(Object event) {
+            if (!running) {
+                throw new IllegalStateException("Partitioned dispatch is shut down");
+            }
+            queue.offer(event);
+            if (parked) {
+                LockSupport.unpark(thread);
+            }
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                Object event = queue.poll();
+                if (event != null) {
+                    dispatch(event);
+                    continue;
+                }
+                if (!running) break;
+
+                parked = true;
+                // Повторная проверка после выставления флага, чтобы не пропустить unpark
+                if (queue.isEmpty() && running) {
+                    LockSupport.park(this);
+                }
+                parked = false;
+            }
+        }
+
+        private void dispatch(Object event) {
+            try {
+                eventBus.post(event);
+            } catch (Throwable t) {
+                // Ошибка одного обработчика не должна останавливать весь раздел
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, t);
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package uwu.events.bus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.LongConsumer;
+
+/**
+ * Таблицы обработчиков примитивного канала: отдельно для int, long и double.
+ * Массивы обработчиков отсортированы по приоритету и публикуются целиком при изменении.
+ */
+final class PrimitiveChannel {
+    final Table<IntConsumer> ints = new Table<>(IntConsumer[]::new);
+    final Table<LongConsumer> longs = new Table<>(LongConsumer[]::new);
+    final Table<DoubleConsumer> doubles = new Table<>(DoubleConsumer[]::new);
+
+    static final class Table<H> {
+        private final IntFunction<H[]> factory;
+        private final List<PrimitiveListener> listeners = new ArrayList<>();
+        volatile H[] handlers;
+
+        Table(IntFunction<H[]> factory) {
+            this.factory = factory;
+            this.handlers = factory.apply(0);
+        }
+
+        synchronized void add(PrimitiveListener listener) {
+            listeners.add(listener);
+            // Стабильная сортировка сохраняет порядок подписки внутри одного приоритета
+            listeners.sort((a, b) -> Integer.compare(b.getPriority(), a.getPriority()));
+            publish();
+        }
+
+        synchronized void remove(PrimitiveListener listener) {
+            if (listeners.remove(listener)) {
+                publish();
+            }
+        }
+
+        synchronized void clear() {
+            listeners.clear();
+            publish();
+        }
+
+        int size() {
+            return handlers.length;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void publish() {
+            H[] next = factory.apply(listeners.size());
+            for (int i = 0; i < next.length; i++) {
+                next[i] = (H) listeners.get(i).getHandler();
+            }
+            handlers = next;
+        }
+    }
+}
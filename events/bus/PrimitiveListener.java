@@ -0,0 +1,28 @@
+package uwu.events.bus;
+
+/**
+ * Подписка на примитивный канал ({@link EventBus#subscribeInt} и аналоги).
+ */
+public final class PrimitiveListener {
+    private final Class<?> channel;
+    private final Object handler;
+    private final int priority;
+    private final Object owner;
+
+    // Таблица канала, в которой зарегистрирован слушатель
+    final PrimitiveChannel.Table<?> table;
+
+    PrimitiveListener(Class<?> channel, Object handler, int priority, Object owner, PrimitiveChannel.Table<?> table) {
+        this.channel = channel;
+        this.handler = handler;
+        this.priority = priority;
+        this.owner = owner;
+        this.table = table;
+    }
+
+    // Getters
+    public Class<?> getChannel() { return channel; }
+    public Object getHandler() { return handler; }
+    public int getPriority() { return priority; }
+    public Object getOwner() { return owner; }
+}
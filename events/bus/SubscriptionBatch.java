@@ -0,0 +1,104 @@
+package uwu.events.bus;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Пакет подписок и отписок, применяемый к EventBus одной транзакцией.
+ */
+public final class SubscriptionBatch {
+
+    /**
+     * Пример использования:
+     * <pre>
+     * bus.registerBatch(batch -> {
+     *     for (Entity entity : entities) {
+     *         batch.subscribe(TickEvent.class, entity::onTick, Priority.NORMAL, entity);
+     *     }
+     * });
+     * </pre>
+     */
+    final Map<Class<?>, List<EventListener<?>>> added = new LinkedHashMap<>();
+    final Map<Class<?>, Set<EventListener<?>>> removed = new LinkedHashMap<>();
+    final Set<Object> removedOwners = new LinkedHashSet<>();
+
+    private final EventBus eventBus;
+
+    SubscriptionBatch(EventBus eventBus) {
+        this.eventBus = eventBus;
+    }
+
+    public <T> EventListener<T> subscribe(Class<T> eventType, Consumer<T> handler) {
+        return subscribe(eventType, handler, Priority.NORMAL, null);
+    }
+
+    public <T> EventListener<T> subscribe(Class<T> eventType, Consumer<T> handler, int priority) {
+        return subscribe(eventType, handler, priority, null);
+    }
+
+    public <T> EventListener<T> subscribe(Class<T> eventType, Consumer<T> handler, int priority, Object owner) {
+        return subscribe(eventType, handler, priority, owner, false);
+    }
+
+    public <T> EventListener<T> subscribe(Class<T> eventType, Consumer<T> handler, int priority, Object owner,
+                                          boolean parallel) {
+        return subscribe(eventType, handler, priority, owner, parallel, ThreadMode.POSTING);
+    }
+
+    public <T> EventListener<T> subscribe(Class<T> eventType, Consumer<T> handler, int priority, Object owner,
+                                          ThreadMode threadMode) {
+        return subscribe(eventType, handler, priority, owner, false, threadMode);
+    }
+
+    public <T> EventListener<T> subscribe(Class<T> eventType, Consumer<T> handler, int priority, Object owner,
+                                          boolean parallel, ThreadMode threadMode) {
+        EventListener<T> listener = eventBus.newListener(eventType, handler, priority, owner, parallel, threadMode);
+        added.computeIfAbsent(eventType, k -> new ArrayList<>()).add(listener);
+        return listener;
+    }
+
+    /**
+     * Raw подписка (без типовой безопасности, для рефлексии).
+     */
+    @SuppressWarnings("unchecked")
+    public EventListener<Object> subscribeRaw(Class<?> eventType, Consumer<Object> handler, int priority, Object owner) {
+        return subscribe((Class<Object>) eventType, handler, priority, owner);
+    }
+
+    /**
+     * Raw подписка с флагом параллельного выполнения и режимом потока.
+     */
+    @SuppressWarnings("unchecked")
+    public EventListener<Object> subscribeRaw(Class<?> eventType, Consumer<Object> handler, int priority, Object owner,
+                                              boolean parallel, ThreadMode threadMode) {
+        return subscribe((Class<Object>) eventType, handler, priority, owner,
+                parallel, threadMode);
+    }
+
+    /**
+     * Отписать конкретный listener при применении пакета.
+     */
+    public void unsubscribe(EventListener<?> listener) {
+        List<EventListener<?>> pending = added.get(listener.getEventType());
+        if (pending != null && pending.remove(listener)) {
+            return;
+        }
+        removed.computeIfAbsent(listener.getEventType(), k -> new HashSet<>()).add(listener);
+    }
+
+    /**
+     * Отписать владельца от всех событий при применении пакета.
+     * Подписки этого владельца, добавленные в пакет ранее, тоже отбрасываются.
+     */
+    public void unsubscribe(Object owner) {
+        if (owner == null) return;
+        for (List<EventListener<?>> pending : added.values()) {
+            pending.removeIf(listener -> owner.equals(listener.getOwner()));
+        }
+        removedOwners.add(owner);
+    }
+
+    boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty() && removedOwners.isEmpty();
+    }
+}
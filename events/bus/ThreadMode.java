@@ -0,0 +1,16 @@
+package uwu.events.bus;
+
+/**
+ * В каком потоке выполняется обработчик.
+ * Обработчики не в POSTING не влияют на отмену и остановку текущей рассылки.
+ */
+public enum ThreadMode {
+    /** В потоке, вызвавшем post (по умолчанию). */
+    POSTING,
+    /** В главном потоке через executor, зарегистрированный {@link EventBus#setMainThreadExecutor}. */
+    MAIN,
+    /** В пуле потоков, каждое событие независимо. */
+    ASYNC,
+    /** В одном фоновом потоке шины, строго по порядку. */
+    BACKGROUND
+}
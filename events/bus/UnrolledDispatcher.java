@@ -0,0 +1,167 @@
+package uwu.events.bus;
+
+import uwu.events.core.Cancellable;
+import uwu.events.core.Stoppable;
+
+import java.util.function.Consumer;
+
+/**
+ * Шаблон развёрнутой рассылки на {@link #WIDTH} слушателей.
+ * DispatcherFactory определяет из байткода этого класса отдельный hidden class
+ * для каждого звена, поэтому у каждого вызова handler.accept свой профиль типов
+ * и JIT может встроить обработчик в мономорфный call site.
+ * Слушатели сверх WIDTH обрабатываются следующим звеном цепочки.
+ */
+final class UnrolledDispatcher implements Dispatcher {
+    static final int WIDTH = 8;
+
+    private final EventListener<?> l0;
+    private final Consumer<Object> h0;
+    private final EventListener<?> l1;
+    private final Consumer<Object> h1;
+    private final EventListener<?> l2;
+    private final Consumer<Object> h2;
+    private final EventListener<?> l3;
+    private final Consumer<Object> h3;
+    private final EventListener<?> l4;
+    private final Consumer<Object> h4;
+    private final EventListener<?> l5;
+    private final Consumer<Object> h5;
+    private final EventListener<?> l6;
+    private final Consumer<Object> h6;
+    private final EventListener<?> l7;
+    private final Consumer<Object> h7;
+    private final boolean cancellable;
+    private final boolean stoppable;
+    private final Dispatcher next;
+
+    /**
+     * @param cancellable проверять отмену перед рассылкой (только для головы цепочки)
+     * @param stoppable   проверять остановку после каждого слушателя
+     */
+    UnrolledDispatcher(EventListener<?>[] listeners, int offset,
+                       boolean cancellable, boolean stoppable, Dispatcher next) {
+        this.l0 = listener(listeners, offset);
+        this.h0 = handler(l0);
+        this.l1 = listener(listeners, offset + 1);
+        this.h1 = handler(l1);
+        this.l2 = listener(listeners, offset + 2);
+        this.h2 = handler(l2);
+        this.l3 = listener(listeners, offset + 3);
+        this.h3 = handler(l3);
+        this.l4 = listener(listeners, offset + 4);
+        this.h4 = handler(l4);
+        this.l5 = listener(listeners, offset + 5);
+        this.h5 = handler(l5);
+        this.l6 = listener(listeners, offset + 6);
+        this.h6 = handler(l6);
+        this.l7 = listener(listeners, offset + 7);
+        this.h7 = handler(l7);
+        this.cancellable = cancellable;
+        this.stoppable = stoppable;
+        this.next = next;
+    }
+
+    @Override
+    public void dispatch(Object event) {
+        if (cancellable && ((Cancellable) event).isCancelled()) return; // Отменённые события не обрабатываются
+
+        if (l0 == null) return;
+        if (l0.canHandle()) {
+            if (l0.getExecutor() == null) {
+                h0.accept(event);
+            } else {
+                call(l0, event);
+            }
+        }
+        if (stoppable && ((Stoppable) event).isStopped()) return;
+
+        if (l1 == null) return;
+        if (l1.canHandle()) {
+            if (l1.getExecutor() == null) {
+                h1.accept(event);
+            } else {
+                call(l1, event);
+            }
+        }
+        if (stoppable && ((Stoppable) event).isStopped()) return;
+
+        if (l2 == null) return;
+        if (l2.canHandle()) {
+            if (l2.getExecutor() == null) {
+                h2.accept(event);
+            } else {
+                call(l2, event);
+            }
+        }
+        if (stoppable && ((Stoppable) event).isStopped()) return;
+
+        if (l3 == null) return;
+        if (l3.canHandle()) {
+            if (l3.getExecutor() == null) {
+                h3.accept(event);
+            } else {
+                call(l3, event);
+            }
+        }
+        if (stoppable && ((Stoppable) event).isStopped()) return;
+
+        if (l4 == null) return;
+        if (l4.canHandle()) {
+            if (l4.getExecutor() == null) {
+                h4.accept(event);
+            } else {
+                call(l4, event);
+            }
+        }
+        if (stoppable && ((Stoppable) event).isStopped()) return;
+
+        if (l5 == null) return;
+        if (l5.canHandle()) {
+            if (l5.getExecutor() == null) {
+                h5.accept(event);
+            } else {
+                call(l5, event);
+            }
+        }
+        if (stoppable && ((Stoppable) event).isStopped()) return;
+
+        if (l6 == null) return;
+        if (l6.canHandle()) {
+            if (l6.getExecutor() == null) {
+                h6.accept(event);
+            } else {
+                call(l6, event);
+            }
+        }
+        if (stoppable && ((Stoppable) event).isStopped()) return;
+
+        if (l7 == null) return;
+        if (l7.canHandle()) {
+            if (l7.getExecutor() == null) {
+                h7.accept(event);
+            } else {
+                call(l7, event);
+            }
+        }
+        if (stoppable && ((Stoppable) event).isStopped()) return;
+
+        if (next != null) {
+            next.dispatch(event);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void call(EventListener<?> listener, Object event) {
+        ((EventListener<Object>) listener).handle(event);
+    }
+
+    private static EventListener<?> listener(EventListener<?>[] listeners, int index) {
+        return index < listeners.length ? listeners[index] : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Consumer<Object> handler(EventListener<?> listener) {
+        return listener != null ? ((EventListener<Object>) listener).getHandler() : null;
+    }
+}
@@ -0,0 +1,19 @@
+package uwu.events.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Бинарный кодек события. Пишет и читает прямо в/из буфера без промежуточных копий.
+ */
+public interface EventCodec<T> {
+
+    /**
+     * Записать событие начиная с текущей позиции буфера.
+     */
+    void encode(T event, ByteBuffer buffer);
+
+    /**
+     * Прочитать событие; буфер ограничен ровно его байтами.
+     */
+    T decode(ByteBuffer buffer);
+}
@@ -0,0 +1,51 @@
+package uwu.events.codec;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Реестр кодеков: тип события ↔ числовой идентификатор ↔ кодек.
+ * Идентификатор 0 зарезервирован как маркер конца данных.
+ */
+public class EventCodecRegistry {
+    private final Map<Class<?>, Entry<?>> byType = new ConcurrentHashMap<>();
+    private final Map<Integer, Entry<?>> byId = new ConcurrentHashMap<>();
+
+    public <T> EventCodecRegistry register(int typeId, Class<T> eventType, EventCodec<T> codec) {
+        if (typeId <= 0) {
+            throw new IllegalArgumentException("typeId must be positive: " + typeId);
+        }
+
+        Entry<T> entry = new Entry<>(typeId, eventType, codec);
+        if (byId.putIfAbsent(typeId, entry) != null) {
+            throw new IllegalArgumentException("typeId already registered: " + typeId);
+        }
+        byType.put(eventType, entry);
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> Entry<T> get(Class<T> eventType) {
+        return (Entry<T>) byType.get(eventType);
+    }
+
+    public Entry<?> get(int typeId) {
+        return byId.get(typeId);
+    }
+
+    public static final class Entry<T> {
+        private final int typeId;
+        private final Class<T> eventType;
+        private final EventCodec<T> codec;
+
+        Entry(int typeId, Class<T> eventType, EventCodec<T> codec) {
+            this.typeId = typeId;
+            this.eventType = eventType;
+            this.codec = codec;
+        }
+
+        public int getTypeId() { return typeId; }
+        public Class<T> getEventType() { return eventType; }
+        public EventCodec<T> getCodec() { return codec; }
+    }
+}
@@ -0,0 +1,21 @@
+package uwu.events.jmx;
+
+import java.util.Map;
+
+/**
+ * JMX-представление EventBus. Ключи карт — полные имена классов событий.
+ */
+public interface EventBusMXBean {
+    boolean isMetricsEnabled();
+    Map<String, Long> getPostCounts();
+    Map<String, Double> getPostsPerSecond();
+    Map<String, Integer> getListenerCounts();
+    long getSnapshotRebuildCount();
+    double getSnapshotRebuildTimeMillis();
+    int getDeferredCount();
+    int getPartitionQueueDepth();
+
+    void enableMetrics();
+    void disableMetrics();
+    void resetMetrics();
+}
@@ -0,0 +1,81 @@
+package uwu.events.jmx;
+
+import uwu.events.bus.EventBus;
+import uwu.events.bus.PartitionedDispatcher;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Реализация {@link EventBusMXBean} поверх EventBus.
+ * Чтение атрибутов не меняет состояние: частоты постов считает сама шина по своему окну.
+ */
+public class EventBusMetrics implements EventBusMXBean {
+    private final EventBus eventBus;
+
+    public EventBusMetrics(EventBus eventBus) {
+        this.eventBus = eventBus;
+    }
+
+    @Override
+    public boolean isMetricsEnabled() {
+        return eventBus.isMetricsEnabled();
+    }
+
+    @Override
+    public Map<String, Long> getPostCounts() {
+        Map<String, Long> result = new HashMap<>();
+        eventBus.getPostCounts().forEach((type, count) -> result.put(type.getName(), count));
+        return result;
+    }
+
+    @Override
+    public Map<String, Double> getPostsPerSecond() {
+        Map<String, Double> result = new HashMap<>();
+        eventBus.getPostRates().forEach((type, rate) -> result.put(type.getName(), rate));
+        return result;
+    }
+
+    @Override
+    public Map<String, Integer> getListenerCounts() {
+        Map<String, Integer> result = new HashMap<>();
+        eventBus.getListenerCounts().forEach((type, count) -> result.put(type.getName(), count));
+        return result;
+    }
+
+    @Override
+    public long getSnapshotRebuildCount() {
+        return eventBus.getSnapshotRebuildCount();
+    }
+
+    @Override
+    public double getSnapshotRebuildTimeMillis() {
+        return eventBus.getSnapshotRebuildTime() / 1_000_000.0;
+    }
+
+    @Override
+    public int getDeferredCount() {
+        return eventBus.getDeferredCount();
+    }
+
+    @Override
+    public int getPartitionQueueDepth() {
+        PartitionedDispatcher dispatcher = eventBus.getPartitionedDispatcher();
+        return dispatcher != null ? dispatcher.getQueueDepth() : 0;
+    }
+
+    @Override
+    public void enableMetrics() {
+        eventBus.enableMetrics();
+    }
+
+    @Override
+    public void disableMetrics() {
+        eventBus.disableMetrics();
+    }
+
+    @Override
+    public void resetMetrics() {
+        eventBus.resetMetrics();
+    }
+}
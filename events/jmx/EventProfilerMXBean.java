@@ -0,0 +1,21 @@
+package uwu.events.jmx;
+
+import java.util.Map;
+
+/**
+ * JMX-представление EventProfiler. Времена — в миллисекундах, ключи — полные имена классов событий.
+ */
+public interface EventProfilerMXBean {
+    boolean isEnabled();
+    Map<String, Long> getCallCounts();
+    Map<String, Double> getAverageMillis();
+    Map<String, Double> getP50Millis();
+    Map<String, Double> getP95Millis();
+    Map<String, Double> getP99Millis();
+    Map<String, Double> getMaxMillis();
+    String generateReport();
+
+    void enable();
+    void disable();
+    void reset();
+}
@@ -0,0 +1,82 @@
+package uwu.events.jmx;
+
+import uwu.events.profiler.EventProfiler;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Реализация {@link EventProfilerMXBean} поверх EventProfiler.
+ */
+public class EventProfilerMetrics implements EventProfilerMXBean {
+    private final EventProfiler profiler;
+
+    public EventProfilerMetrics(EventProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return profiler.isEnabled();
+    }
+
+    @Override
+    public Map<String, Long> getCallCounts() {
+        Map<String, Long> result = new HashMap<>();
+        profiler.getEventStats().forEach((type, stats) -> result.put(type.getName(), stats.getCallCount()));
+        return result;
+    }
+
+    @Override
+    public Map<String, Double> getAverageMillis() {
+        return millis(EventProfiler.EventStats::getAverageTime);
+    }
+
+    @Override
+    public Map<String, Double> getP50Millis() {
+        return millis(stats -> stats.getPercentile(50));
+    }
+
+    @Override
+    public Map<String, Double> getP95Millis() {
+        return millis(stats -> stats.getPercentile(95));
+    }
+
+    @Override
+    public Map<String, Double> getP99Millis() {
+        return millis(stats -> stats.getPercentile(99));
+    }
+
+    @Override
+    public Map<String, Double> getMaxMillis() {
+        return millis(EventProfiler.EventStats::getMaxTime);
+    }
+
+    private Map<String, Double> millis(ToDoubleFunction<EventProfiler.EventStats> nanos) {
+        Map<String, Double> result = new HashMap<>();
+        profiler.getEventStats().forEach((type, stats) ->
+                result.put(type.getName(), nanos.applyAsDouble(stats) / 1_000_000.0));
+        return result;
+    }
+
+    @Override
+    public String generateReport() {
+        return profiler.generateReport();
+    }
+
+    @Override
+    public void enable() {
+        profiler.enable();
+    }
+
+    @Override
+    public void disable() {
+        profiler.disable();
+    }
+
+    @Override
+    public void reset() {
+        profiler.reset();
+    }
+}
@@ -0,0 +1,10 @@
+package uwu.events.jmx;
+
+/**
+ * JMX-представление EventScheduler.
+ */
+public interface EventSchedulerMXBean {
+    int getQueuedTaskCount();
+    int getActiveTaskCount();
+    long getCompletedTaskCount();
+}
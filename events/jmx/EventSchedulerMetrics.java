@@ -0,0 +1,29 @@
+package uwu.events.jmx;
+
+import uwu.events.scheduler.EventScheduler;
+
+/**
+ * Реализация {@link EventSchedulerMXBean} поверх EventScheduler.
+ */
+public class EventSchedulerMetrics implements EventSchedulerMXBean {
+    private final EventScheduler scheduler;
+
+    public EventSchedulerMetrics(EventScheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public int getQueuedTaskCount() {
+        return scheduler.getQueuedTaskCount();
+    }
+
+    @Override
+    public int getActiveTaskCount() {
+        return scheduler.getActiveTaskCount();
+    }
+
+    @Override
+    public long getCompletedTaskCount() {
+        return scheduler.getCompletedTaskCount();
+    }
+}
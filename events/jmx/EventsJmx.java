@@ -0,0 +1,61 @@
+package uwu.events.jmx;
+
+import uwu.events.bus.EventBus;
+import uwu.events.profiler.EventProfiler;
+import uwu.events.scheduler.EventScheduler;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Регистрация MBean'ов UwuEvents в платформенном MBeanServer (домен uwu.events).
+ */
+public final class EventsJmx {
+
+    /**
+     * Пример использования:
+     * <pre>
+     * EventsJmx.register(Events.bus(), "global");
+     * EventsJmx.register(EventProfiler.getInstance());
+     * // затем подключиться через JConsole / VisualVM / jcmd
+     * </pre>
+     */
+    private static final String DOMAIN = "uwu.events";
+
+    private EventsJmx() {}
+
+    public static ObjectName register(EventBus eventBus, String name) {
+        return register(new EventBusMetrics(eventBus), "type=EventBus,name=" + ObjectName.quote(name));
+    }
+
+    public static ObjectName register(EventProfiler profiler) {
+        return register(new EventProfilerMetrics(profiler), "type=EventProfiler");
+    }
+
+    public static ObjectName register(EventScheduler scheduler, String name) {
+        return register(new EventSchedulerMetrics(scheduler), "type=EventScheduler,name=" + ObjectName.quote(name));
+    }
+
+    public static void unregister(ObjectName objectName) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Failed to unregister MBean " + objectName, e);
+        }
+    }
+
+    private static ObjectName register(Object mbean, String properties) {
+        try {
+            ObjectName objectName = new ObjectName(DOMAIN + ":" + properties);
+            ManagementFactory.getPlatformMBeanServer().registerMBean(mbean, objectName);
+            return objectName;
+        } catch (JMException e) {
+            throw new IllegalStateException("Failed to register MBean " + properties, e);
+        }
+    }
+}
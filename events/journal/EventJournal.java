@@ -0,0 +1,180 @@
+package uwu.events.journal;
+
+import uwu.events.bus.EventBus;
+import uwu.events.bus.EventTap;
+import uwu.events.codec.EventCodecRegistry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Бинарный журнал событий в memory-mapped сегментах.
+ * Записываются только типы, для которых зарегистрирован кодек.
+ */
+public class EventJournal implements EventTap, AutoCloseable {
+
+    /**
+     * Пример использования:
+     * <pre>
+     * EventCodecRegistry codecs = new EventCodecRegistry()
+     *         .register(1, BlockBreakEvent.class, new BlockBreakCodec());
+     * try (EventJournal journal = new EventJournal(Paths.get("journal"), codecs)) {
+     *     journal.attach(Events.bus());
+     *     // ... игровая сессия ...
+     * }
+     * </pre>
+     */
+    static final int MAGIC = 0x55574A31; // "UWJ1"
+    static final int SEGMENT_HEADER = 8;
+    static final int RECORD_HEADER = 16;
+    static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    private final Path directory;
+    private final EventCodecRegistry codecs;
+    private final int segmentSize;
+    private final long startNanos = System.nanoTime();
+
+    private MappedByteBuffer segment;
+    private int segmentIndex = -1;
+    private EventBus bus;
+    private boolean closed = false;
+
+    public EventJournal(Path directory, EventCodecRegistry codecs) throws IOException {
+        this(directory, codecs, DEFAULT_SEGMENT_SIZE);
+    }
+
+    public EventJournal(Path directory, EventCodecRegistry codecs, int segmentSize) throws IOException {
+        if (segmentSize <= SEGMENT_HEADER + RECORD_HEADER) {
+            throw new IllegalArgumentException("segmentSize is too small: " + segmentSize);
+        }
+        this.directory = Files.createDirectories(directory);
+        this.codecs = codecs;
+        this.segmentSize = segmentSize;
+        roll();
+    }
+
+    /**
+     * Начать запись событий, отправляемых в bus.
+     */
+    public synchronized void attach(EventBus bus) {
+        detach();
+        this.bus = bus;
+        bus.addTap(this);
+    }
+
+    public synchronized void detach() {
+        if (bus != null) {
+            bus.removeTap(this);
+            bus = null;
+        }
+    }
+
+    @Override
+    public void onPost(Object event) {
+        EventCodecRegistry.Entry<?> entry = codecs.get(event.getClass());
+        if (entry == null) return;
+
+        try {
+            append(entry, event);
+        } catch (RuntimeException e) {
+            // Сбой записи не должен ломать рассылку события слушателям
+            Thread thread = Thread.currentThread();
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+        }
+    }
+
+    private synchronized <T> void append(EventCodecRegistry.Entry<T> entry, Object event) {
+        if (closed) return;
+
+        T typed = entry.getEventType().cast(event);
+        long timestamp = System.nanoTime() - startNanos;
+
+        if (tryAppend(entry, typed, timestamp)) return;
+
+        // В пустой сегмент не поместилось — новый не поможет, а лишь оставит ещё один файл
+        if (segment.position() > SEGMENT_HEADER) {
+            try {
+                roll();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to roll journal segment", e);
+            }
+            if (tryAppend(entry, typed, timestamp)) return;
+        }
+        throw new IllegalArgumentException("Event does not fit into a journal segment: "
+                + event.getClass().getName());
+    }
+
+    /**
+     * Запись: typeId, длина payload, время от начала журнала, payload.
+     */
+    private <T> boolean tryAppend(EventCodecRegistry.Entry<T> entry, T event, long timestamp) {
+        int start = segment.position();
+        if (segment.remaining() < RECORD_HEADER) {
+            return false;
+        }
+
+        boolean encoded = false;
+        try {
+            segment.position(start + RECORD_HEADER);
+            entry.getCodec().encode(event, segment);
+            encoded = true;
+        } catch (BufferOverflowException e) {
+            return false;
+        } finally {
+            if (!encoded) {
+                // Откат при любой ошибке кодека: недописанная запись с нулевым typeId оборвала бы
+                // воспроизведение всех следующих записей, а её хвост мог бы прочитаться как заголовок
+                for (int i = segment.position() - 1; i >= start; i--) {
+                    segment.put(i, (byte) 0);
+                }
+                segment.position(start);
+            }
+        }
+
+        int length = segment.position() - start - RECORD_HEADER;
+        segment.putInt(start + 4, length);
+        segment.putLong(start + 8, timestamp);
+        // typeId пишется последним: ненулевой id означает, что запись целиком готова
+        segment.putInt(start, entry.getTypeId());
+        return true;
+    }
+
+    private void roll() throws IOException {
+        if (segment != null) {
+            segment.force();
+        }
+
+        Path file = segmentFile(directory, segmentIndex + 1);
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        } catch (FileAlreadyExistsException e) {
+            throw new IOException("Journal directory already contains segment " + file
+                    + ", use an empty directory", e);
+        }
+        segmentIndex++;
+
+        segment.putInt(MAGIC);
+        segment.putInt(0);
+    }
+
+    static Path segmentFile(Path directory, int index) {
+        return directory.resolve(String.format("%08d.journal", index));
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!closed) {
+            detach();
+            closed = true;
+            segment.force();
+        }
+    }
+}
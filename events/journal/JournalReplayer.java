@@ -0,0 +1,100 @@
+package uwu.events.journal;
+
+import uwu.events.bus.EventBus;
+import uwu.events.codec.EventCodecRegistry;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Воспроизведение журнала {@link EventJournal} в EventBus.
+ */
+public class JournalReplayer {
+
+    /**
+     * Пример использования:
+     * <pre>
+     * EventBus replayBus = EventBus.create();
+     * // ... подписать профилируемые слушатели на replayBus ...
+     * new JournalReplayer(Paths.get("journal"), codecs).replay(replayBus, JournalReplayer.Speed.ORIGINAL);
+     * </pre>
+     */
+    public enum Speed {
+        /** С исходными интервалами между событиями. */
+        ORIGINAL,
+        /** Так быстро, как позволяет EventBus. */
+        MAXIMUM
+    }
+
+    private final Path directory;
+    private final EventCodecRegistry codecs;
+
+    public JournalReplayer(Path directory, EventCodecRegistry codecs) {
+        this.directory = directory;
+        this.codecs = codecs;
+    }
+
+    /**
+     * Отправить все записанные события в bus. Возвращает число воспроизведённых событий.
+     * Записи с неизвестным typeId пропускаются.
+     */
+    public long replay(EventBus bus, Speed speed) throws IOException {
+        long count = 0;
+        long startNanos = System.nanoTime();
+
+        for (int index = 0; ; index++) {
+            Path file = EventJournal.segmentFile(directory, index);
+            if (!Files.exists(file)) break;
+
+            MappedByteBuffer segment;
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+
+            if (segment.remaining() < EventJournal.SEGMENT_HEADER || segment.getInt() != EventJournal.MAGIC) {
+                throw new IOException("Not a journal segment: " + file);
+            }
+            segment.position(EventJournal.SEGMENT_HEADER);
+
+            while (segment.remaining() >= EventJournal.RECORD_HEADER) {
+                int start = segment.position();
+                int typeId = segment.getInt(start);
+                if (typeId == 0) break; // Конец записанных данных
+
+                int length = segment.getInt(start + 4);
+                long timestamp = segment.getLong(start + 8);
+                int payload = start + EventJournal.RECORD_HEADER;
+
+                EventCodecRegistry.Entry<?> entry = codecs.get(typeId);
+                if (entry != null) {
+                    if (speed == Speed.ORIGINAL) {
+                        waitUntil(startNanos + timestamp);
+                    }
+                    bus.post(decode(entry, segment.slice(payload, length)));
+                    count++;
+                }
+
+                segment.position(payload + length);
+            }
+        }
+
+        return count;
+    }
+
+    private static <T> T decode(EventCodecRegistry.Entry<T> entry, ByteBuffer payload) {
+        return entry.getCodec().decode(payload);
+    }
+
+    private static void waitUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
@@ -17,7 +17,7 @@ public class EventProfiler {
 
     private final Map<Class<?>, EventStats> stats = new ConcurrentHashMap<>();
     private final Map<EventListener<?>, ListenerStats> listenerStats = new ConcurrentHashMap<>();
-    private boolean enabled = false;
+    private volatile boolean enabled = false;
 
     public static EventProfiler getInstance() {
         return INSTANCE;
@@ -53,6 +53,14 @@ public class EventProfiler {
         };
     }
 
+    /**
+     * Записать время выполнения слушателя, измеренное снаружи (например, в EventBus.post).
+     */
+    public void record(EventListener<?> listener, Class<?> eventType, long duration) {
+        updateStats(eventType, duration);
+        updateListenerStats(listener, duration);
+    }
+
     private void updateStats(Class<?> eventType, long duration) {
         EventStats eventStats = stats.computeIfAbsent(eventType, k -> new EventStats());
         eventStats.record(duration);
@@ -85,10 +93,11 @@ public class EventProfiler {
                 .sorted((a, b) -> Long.compare(b.getValue().getTotalTime(), a.getValue().getTotalTime()))
                 .forEach(entry -> {
                     EventStats stat = entry.getValue();
-                    sb.append(String.format("  %s: calls=%d, avg=%.2fms, total=%.2fms\n",
+                    sb.append(String.format("  %s: calls=%d, avg=%.2fms, p99=%.2fms, total=%.2fms\n",
                             entry.getKey().getSimpleName(),
                             stat.getCallCount(),
                             stat.getAverageTime() / 1_000_000.0,
+                            stat.getPercentile(99) / 1_000_000.0,
                             stat.getTotalTime() / 1_000_000.0));
                 });
 
@@ -111,11 +120,13 @@ public class EventProfiler {
         private final AtomicLong callCount = new AtomicLong();
         private final AtomicLong totalTime = new AtomicLong();
         private final AtomicLong maxTime = new AtomicLong();
+        private final LatencyHistogram histogram = new LatencyHistogram();
 
         public void record(long duration) {
             callCount.incrementAndGet();
             totalTime.addAndGet(duration);
             maxTime.updateAndGet(current -> Math.max(current, duration));
+            histogram.record(duration);
         }
 
         public long getCallCount() { return callCount.get(); }
@@ -125,17 +136,20 @@ public class EventProfiler {
             return count > 0 ? totalTime.get() / count : 0;
         }
         public long getMaxTime() { return maxTime.get(); }
+        public long getPercentile(double percentile) { return histogram.getPercentile(percentile); }
     }
 
     public static class ListenerStats {
         private final AtomicLong callCount = new AtomicLong();
         private final AtomicLong totalTime = new AtomicLong();
         private final AtomicLong maxTime = new AtomicLong();
+        private final LatencyHistogram histogram = new LatencyHistogram();
 
         public void record(long duration) {
             callCount.incrementAndGet();
             totalTime.addAndGet(duration);
             maxTime.updateAndGet(current -> Math.max(current, duration));
+            histogram.record(duration);
         }
 
         public long getCallCount() { return callCount.get(); }
@@ -145,5 +159,6 @@ public class EventProfiler {
             return count > 0 ? totalTime.get() / count : 0;
         }
         public long getMaxTime() { return maxTime.get(); }
+        public long getPercentile(double percentile) { return histogram.getPercentile(percentile); }
     }
 }
\ No newline at end of file
@@ -0,0 +1,155 @@
+package uwu.events.profiler;
+
+import uwu.events.bus.EventBus;
+import uwu.events.bus.EventListener;
+import uwu.events.bus.ThreadMode;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сторож бюджета задержки для слушателей.
+ * Слушатель, который слишком часто превышает бюджет в скользящем окне,
+ * автоматически отключается или переводится в асинхронный режим.
+ */
+public class EventWatchdog {
+
+    /**
+     * Пример использования:
+     * <pre>
+     * EventWatchdog watchdog = new EventWatchdog(2, TimeUnit.MILLISECONDS)
+     *         .maxViolations(5, 10, TimeUnit.SECONDS)
+     *         .action(EventWatchdog.Action.DEMOTE_ASYNC);
+     * Events.bus().setWatchdog(watchdog);
+     * Events.bus().subscribe(ListenerBudgetExceededEvent.class, e -> log(e.getListener()));
+     * </pre>
+     */
+    private static final ExecutorService DEMOTED_EXECUTOR =
+            Executors.newCachedThreadPool(r -> {
+                Thread t = new Thread(r, "EventWatchdog-async");
+                t.setDaemon(true);
+                return t;
+            });
+
+    public enum Action {
+        /** Отключить слушателя через setActive(false). */
+        DISABLE,
+        /** Выполнять слушателя асинхронно, не блокируя post. */
+        DEMOTE_ASYNC
+    }
+
+    private final long defaultBudgetNanos;
+    private final Map<Class<?>, Long> typeBudgets = new ConcurrentHashMap<>();
+    private final Map<EventListener<?>, Long> listenerBudgets = new ConcurrentHashMap<>();
+    private final Map<EventListener<?>, Violations> violations = new ConcurrentHashMap<>();
+
+    private int maxViolations = 3;
+    private long windowNanos = TimeUnit.SECONDS.toNanos(10);
+    private Action action = Action.DISABLE;
+    private Executor asyncExecutor = DEMOTED_EXECUTOR;
+
+    public EventWatchdog(long budget, TimeUnit unit) {
+        this.defaultBudgetNanos = unit.toNanos(budget);
+    }
+
+    /**
+     * Сколько превышений за окно допускается до срабатывания.
+     */
+    public EventWatchdog maxViolations(int count, long window, TimeUnit unit) {
+        if (count < 1) {
+            throw new IllegalArgumentException("count must be positive");
+        }
+        this.maxViolations = count;
+        this.windowNanos = unit.toNanos(window);
+        violations.clear();
+        return this;
+    }
+
+    public EventWatchdog action(Action action) {
+        this.action = action;
+        return this;
+    }
+
+    public EventWatchdog asyncExecutor(Executor executor) {
+        this.asyncExecutor = executor;
+        return this;
+    }
+
+    /**
+     * Бюджет для всех слушателей типа события.
+     */
+    public EventWatchdog budget(Class<?> eventType, long budget, TimeUnit unit) {
+        typeBudgets.put(eventType, unit.toNanos(budget));
+        return this;
+    }
+
+    /**
+     * Бюджет для конкретного слушателя (важнее бюджета типа).
+     */
+    public EventWatchdog budget(EventListener<?> listener, long budget, TimeUnit unit) {
+        listenerBudgets.put(listener, unit.toNanos(budget));
+        return this;
+    }
+
+    /**
+     * Учесть время выполнения слушателя. Вызывается EventBus после каждого обработчика.
+     */
+    public void record(EventBus bus, EventListener<?> listener, Object event, long duration) {
+        long budget = budgetFor(listener);
+        if (duration <= budget) return;
+
+        Violations v = violations.computeIfAbsent(listener, k -> new Violations(maxViolations));
+        if (!v.add(System.nanoTime(), windowNanos)) return;
+
+        violations.remove(listener);
+        ListenerBudgetExceededEvent exceeded =
+                new ListenerBudgetExceededEvent(listener, event.getClass(), duration, budget, action);
+        bus.post(exceeded);
+        if (exceeded.isCancelled()) return;
+
+        if (action == Action.DISABLE) {
+            listener.setActive(false);
+        } else if (listener.getThreadMode() == ThreadMode.POSTING) {
+            // MAIN/BACKGROUND обработчики привязаны к своему потоку — их не переносим
+            listener.setExecutor(asyncExecutor);
+        }
+    }
+
+    private long budgetFor(EventListener<?> listener) {
+        Long budget = listenerBudgets.get(listener);
+        if (budget == null) {
+            budget = typeBudgets.get(listener.getEventType());
+        }
+        return budget != null ? budget : defaultBudgetNanos;
+    }
+
+    public void reset() {
+        violations.clear();
+    }
+
+    /**
+     * Кольцо времён последних превышений.
+     */
+    private static final class Violations {
+        private final long[] times;
+        private int next = 0;
+        private int count = 0;
+
+        Violations(int capacity) {
+            this.times = new long[capacity];
+        }
+
+        synchronized boolean add(long now, long window) {
+            times[next] = now;
+            next = (next + 1) % times.length;
+            if (count < times.length) count++;
+
+            // После записи times[next] — самое старое из последних N превышений
+            return count == times.length && now - times[next] <= window;
+        }
+    }
+}
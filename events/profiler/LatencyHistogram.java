@@ -0,0 +1,40 @@
+package uwu.events.profiler;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Гистограмма задержек с корзинами по степеням двойки.
+ * Перцентили приблизительные: точность — в пределах одной корзины (×2).
+ */
+final class LatencyHistogram {
+    private final AtomicLongArray buckets = new AtomicLongArray(64);
+
+    void record(long duration) {
+        buckets.incrementAndGet(bucket(duration));
+    }
+
+    /**
+     * Верхняя граница корзины, в которую попадает перцентиль (0 < percentile <= 100).
+     */
+    long getPercentile(double percentile) {
+        long total = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            total += buckets.get(i);
+        }
+        if (total == 0) return 0;
+
+        long rank = (long) Math.ceil(total * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return i == 63 ? Long.MAX_VALUE : (1L << i) - 1;
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    private static int bucket(long duration) {
+        return duration <= 0 ? 0 : Math.min(63, 64 - Long.numberOfLeadingZeros(duration));
+    }
+}
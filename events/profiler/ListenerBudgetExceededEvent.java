@@ -0,0 +1,32 @@
+package uwu.events.profiler;
+
+import uwu.events.bus.EventListener;
+import uwu.events.core.Cancellable;
+import uwu.events.events.AbstractEvent;
+
+/**
+ * Слушатель систематически превышает бюджет задержки.
+ * Отмена события оставляет слушателя как есть.
+ */
+public class ListenerBudgetExceededEvent extends AbstractEvent implements Cancellable {
+    private final EventListener<?> listener;
+    private final Class<?> eventType;
+    private final long duration;
+    private final long budget;
+    private final EventWatchdog.Action action;
+
+    public ListenerBudgetExceededEvent(EventListener<?> listener, Class<?> eventType,
+                                       long duration, long budget, EventWatchdog.Action action) {
+        this.listener = listener;
+        this.eventType = eventType;
+        this.duration = duration;
+        this.budget = budget;
+        this.action = action;
+    }
+
+    public EventListener<?> getListener() { return listener; }
+    public Class<?> getEventType() { return eventType; }
+    public long getDuration() { return duration; }
+    public long getBudget() { return budget; }
+    public EventWatchdog.Action getAction() { return action; }
+}
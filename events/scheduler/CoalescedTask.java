@@ -0,0 +1,105 @@
+package uwu.events.scheduler;
+
+import uwu.events.core.Event;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Периодическая задача, которую запускает общий таймер её периода и фазы.
+ * Отмена только помечает задачу — таймер уберёт её на следующем тике.
+ */
+final class CoalescedTask implements ScheduledFuture<Object> {
+    private final Supplier<Event> eventSupplier;
+    private final ScheduleGroup group;
+    private final CompletableFuture<Object> done = new CompletableFuture<>();
+    private final AtomicBoolean running = new AtomicBoolean();
+    final long start;
+    volatile EventScheduler.RateBucket bucket;
+
+    CoalescedTask(Supplier<Event> eventSupplier, ScheduleGroup group, long start) {
+        this.eventSupplier = eventSupplier;
+        this.group = group;
+        this.start = start;
+    }
+
+    /**
+     * Занять задачу на этот тик. false — прошлый запуск ещё выполняется.
+     */
+    boolean tryStart() {
+        return running.compareAndSet(false, true);
+    }
+
+    /**
+     * Выполнить задачу, занятую через {@link #tryStart()}. Упавшая задача больше не запускается,
+     * как и периодическая задача ScheduledExecutorService.
+     */
+    void fire(Consumer<Supplier<Event>> post) {
+        try {
+            if (!isDone()) {
+                post.accept(eventSupplier);
+            }
+        } catch (Throwable t) {
+            done.completeExceptionally(t);
+            Thread thread = Thread.currentThread();
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, t);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    boolean isGroupCancelled() {
+        return group != null && group.isCancelled();
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+        EventScheduler.RateBucket bucket = this.bucket;
+        long untilStart = start - System.nanoTime();
+        if (bucket == null || bucket.timer == null) {
+            return unit.convert(untilStart, TimeUnit.NANOSECONDS);
+        }
+        long untilTick = bucket.timer.getDelay(TimeUnit.NANOSECONDS);
+        if (untilStart > untilTick) {
+            // Ждём первый тик таймера после собственной начальной задержки
+            long ticks = (untilStart - untilTick + bucket.periodNanos - 1) / bucket.periodNanos;
+            untilTick += ticks * bucket.periodNanos;
+        }
+        return unit.convert(untilTick, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+        return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        return done.cancel(false);
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return done.isCancelled() || isGroupCancelled();
+    }
+
+    @Override
+    public boolean isDone() {
+        return done.isDone() || isGroupCancelled();
+    }
+
+    /**
+     * Как и у периодических задач ScheduledExecutorService, ждёт отмены или падения задачи.
+     */
+    @Override
+    public Object get() throws InterruptedException, ExecutionException {
+        return done.get();
+    }
+
+    @Override
+    public Object get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+        return done.get(timeout, unit);
+    }
+}
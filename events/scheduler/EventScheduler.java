@@ -3,72 +3,274 @@ package uwu.events.scheduler;
 import uwu.events.bus.EventBus;
 import uwu.events.core.Event;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 /**
  * Планировщик отложенных событий.
+ * У каждого экземпляра свой пул рабочих потоков: shutdown() одного планировщика не затрагивает другие.
+ * Периодические задачи с одинаковым периодом и фазой обслуживаются одним таймером,
+ * который раздаёт их на рабочие потоки.
  */
 public class EventScheduler {
-    private static final ScheduledExecutorService EXECUTOR =
-            Executors.newSingleThreadScheduledExecutor(r -> {
-                Thread t = new Thread(r, "EventScheduler");
-                t.setDaemon(true);
-                return t;
-            });
+    private static final AtomicInteger IDS = new AtomicInteger();
+    // Точность совпадения фаз: первый запуск периодической задачи округляется вверх до этой сетки
+    private static final long PHASE_QUANTUM_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
 
     private final EventBus eventBus;
+    private final ScheduledThreadPoolExecutor executor;
+
+    // Период и фаза -> общий таймер задач scheduleAtFixedRate
+    private final Map<BucketKey, RateBucket> buckets = new HashMap<>();
 
     public EventScheduler() {
         this(EventBus.getInstance());
     }
 
     public EventScheduler(EventBus eventBus) {
+        this(eventBus, 1);
+    }
+
+    public EventScheduler(EventBus eventBus, int workers) {
+        if (workers < 1) {
+            throw new IllegalArgumentException("workers must be positive: " + workers);
+        }
         this.eventBus = eventBus;
+
+        int id = IDS.incrementAndGet();
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = new ScheduledThreadPoolExecutor(workers, r -> {
+            Thread t = new Thread(r, "EventScheduler-" + id + "-" + threads.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        });
+        this.executor.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Создать группу задач, которую можно отменить целиком одним вызовом.
+     */
+    public ScheduleGroup group() {
+        return new ScheduleGroup(this);
     }
 
     public ScheduledFuture<?> schedule(Supplier<Event> eventSupplier, long delay, TimeUnit unit) {
-        return EXECUTOR.schedule(() -> {
-            Event event = eventSupplier.get();
-            if (event != null) {
-                eventBus.post(event);
-            }
-        }, delay, unit);
+        return schedule(null, eventSupplier, delay, unit);
     }
 
+    /**
+     * Задачи с одинаковым периодом и фазой объединяются в один таймер. Первый запуск
+     * откладывается не более чем на 1 мс, чтобы фазы разных задач совпадали.
+     * Если прошлый запуск задачи ещё не закончился, очередной тик для неё пропускается.
+     */
     public ScheduledFuture<?> scheduleAtFixedRate(Supplier<Event> eventSupplier,
                                                   long initialDelay,
                                                   long period,
                                                   TimeUnit unit) {
-        return EXECUTOR.scheduleAtFixedRate(() -> {
-            Event event = eventSupplier.get();
-            if (event != null) {
-                eventBus.post(event);
-            }
-        }, initialDelay, period, unit);
+        return scheduleAtFixedRate(null, eventSupplier, initialDelay, period, unit);
     }
 
     public ScheduledFuture<?> scheduleWithFixedDelay(Supplier<Event> eventSupplier,
                                                      long initialDelay,
                                                      long delay,
                                                      TimeUnit unit) {
-        return EXECUTOR.scheduleWithFixedDelay(() -> {
-            Event event = eventSupplier.get();
-            if (event != null) {
-                eventBus.post(event);
+        return scheduleWithFixedDelay(null, eventSupplier, initialDelay, delay, unit);
+    }
+
+    ScheduledFuture<?> schedule(ScheduleGroup group, Supplier<Event> eventSupplier, long delay, TimeUnit unit) {
+        if (group == null) {
+            return executor.schedule(() -> post(eventSupplier), delay, unit);
+        }
+        GroupTask task = new GroupTask(group, () -> post(eventSupplier), false);
+        return task.start(executor.schedule(task, delay, unit));
+    }
+
+    ScheduledFuture<?> scheduleAtFixedRate(ScheduleGroup group,
+                                           Supplier<Event> eventSupplier,
+                                           long initialDelay,
+                                           long period,
+                                           TimeUnit unit) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("period must be positive: " + period);
+        }
+        long periodNanos = unit.toNanos(period);
+        long now = System.nanoTime();
+        long start = now + unit.toNanos(Math.max(initialDelay, 0));
+        start += Math.floorMod(-start, PHASE_QUANTUM_NANOS);
+
+        CoalescedTask task = new CoalescedTask(eventSupplier, group, start);
+        BucketKey key = new BucketKey(periodNanos, Math.floorMod(start, periodNanos));
+
+        synchronized (buckets) {
+            RateBucket bucket = buckets.get(key);
+            // Задача добавляется до запуска таймера, чтобы первый тик её не пропустил
+            if (bucket == null) {
+                bucket = new RateBucket(key);
+                bucket.tasks.add(task);
+                bucket.timer = executor.scheduleAtFixedRate(bucket, start - now,
+                        periodNanos, TimeUnit.NANOSECONDS);
+                buckets.put(key, bucket);
+            } else {
+                bucket.tasks.add(task);
+            }
+            task.bucket = bucket;
+        }
+        return task;
+    }
+
+    ScheduledFuture<?> scheduleWithFixedDelay(ScheduleGroup group,
+                                              Supplier<Event> eventSupplier,
+                                              long initialDelay,
+                                              long delay,
+                                              TimeUnit unit) {
+        if (group == null) {
+            return executor.scheduleWithFixedDelay(() -> post(eventSupplier), initialDelay, delay, unit);
+        }
+        GroupTask task = new GroupTask(group, () -> post(eventSupplier), true);
+        return task.start(executor.scheduleWithFixedDelay(task, initialDelay, delay, unit));
+    }
+
+    private void post(Supplier<Event> eventSupplier) {
+        Event event = eventSupplier.get();
+        if (event != null) {
+            eventBus.post(event);
+        }
+    }
+
+    /**
+     * Снять таймер, у которого не осталось задач.
+     */
+    void retire(RateBucket bucket) {
+        synchronized (buckets) {
+            if (bucket.tasks.isEmpty() && buckets.get(bucket.key) == bucket) {
+                buckets.remove(bucket.key);
+                bucket.timer.cancel(false);
             }
-        }, initialDelay, delay, unit);
+        }
+    }
+
+    /**
+     * Число задач, ожидающих запуска (отложенные и периодические).
+     * Объединённые периодические задачи учитываются по одной на таймер.
+     */
+    public int getQueuedTaskCount() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * Число выполняющихся в данный момент задач.
+     */
+    public int getActiveTaskCount() {
+        return executor.getActiveCount();
+    }
+
+    public long getCompletedTaskCount() {
+        return executor.getCompletedTaskCount();
+    }
+
+    public int getWorkerCount() {
+        return executor.getCorePoolSize();
     }
 
     public void shutdown() {
-        EXECUTOR.shutdown();
+        executor.shutdown();
         try {
-            if (!EXECUTOR.awaitTermination(5, TimeUnit.SECONDS)) {
-                EXECUTOR.shutdownNow();
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
             }
         } catch (InterruptedException e) {
-            EXECUTOR.shutdownNow();
+            executor.shutdownNow();
             Thread.currentThread().interrupt();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Общий таймер для задач scheduleAtFixedRate с одним периодом и фазой.
+     * Сам таймер задачи не выполняет, а раздаёт готовые к запуску на рабочие потоки.
+     */
+    final class RateBucket implements Runnable {
+        final BucketKey key;
+        final long periodNanos;
+        final CopyOnWriteArrayList<CoalescedTask> tasks = new CopyOnWriteArrayList<>();
+        volatile ScheduledFuture<?> timer;
+
+        RateBucket(BucketKey key) {
+            this.key = key;
+            this.periodNanos = key.periodNanos;
+        }
+
+        @Override
+        public void run() {
+            // Допуск на запаздывание таймера: старт задачи лежит ровно на его тике
+            long now = System.nanoTime() + PHASE_QUANTUM_NANOS / 2;
+            List<CoalescedTask> due = new ArrayList<>();
+            boolean finished = false;
+
+            for (CoalescedTask task : tasks) {
+                if (task.isDone() || task.isGroupCancelled()) {
+                    finished = true;
+                } else if (now - task.start >= 0 && task.tryStart()) {
+                    due.add(task);
+                }
+            }
+
+            if (finished) {
+                // Одно копирование списка на все отменённые задачи, а не по одному на каждую
+                tasks.removeIf(task -> task.isDone() || task.isGroupCancelled());
+                if (tasks.isEmpty()) {
+                    retire(this);
+                }
+            }
+
+            fanOut(due);
+        }
+
+        /**
+         * Разделить задачи тика на части по числу рабочих потоков.
+         */
+        private void fanOut(List<CoalescedTask> due) {
+            int parts = Math.min(due.size(), executor.getCorePoolSize());
+            for (int part = 0; part < parts; part++) {
+                List<CoalescedTask> slice = due.subList(due.size() * part / parts, due.size() * (part + 1) / parts);
+                try {
+                    executor.execute(() -> {
+                        for (CoalescedTask task : slice) {
+                            task.fire(EventScheduler.this::post);
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    // Планировщик остановлен
+                    return;
+                }
+            }
+        }
+    }
+
+    private static final class BucketKey {
+        final long periodNanos;
+        final long phaseNanos;
+
+        BucketKey(long periodNanos, long phaseNanos) {
+            this.periodNanos = periodNanos;
+            this.phaseNanos = phaseNanos;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof BucketKey)) return false;
+            BucketKey other = (BucketKey) o;
+            return periodNanos == other.periodNanos && phaseNanos == other.phaseNanos;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(periodNanos) * 31 + Long.hashCode(phaseNanos);
+        }
+    }
+}
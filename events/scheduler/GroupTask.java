@@ -0,0 +1,87 @@
+package uwu.events.scheduler;
+
+import java.util.concurrent.*;
+
+/**
+ * Отложенная или fixed-delay задача группы. Группа держит её, пока задача может сработать,
+ * чтобы cancelAll() сразу снимал её из очереди исполнителя вместе с захваченным supplier.
+ */
+final class GroupTask implements Runnable, ScheduledFuture<Object> {
+    private final ScheduleGroup group;
+    private final Runnable action;
+    private final boolean periodic;
+    private volatile ScheduledFuture<?> future;
+
+    GroupTask(ScheduleGroup group, Runnable action, boolean periodic) {
+        this.group = group;
+        this.action = action;
+        this.periodic = periodic;
+    }
+
+    /**
+     * Привязать задачу к будущему исполнителя и зарегистрировать в группе.
+     */
+    GroupTask start(ScheduledFuture<?> future) {
+        this.future = future;
+        group.track(this);
+        // Задача могла успеть выполниться или группа — отмениться до регистрации
+        if (group.isCancelled()) {
+            cancel(false);
+        } else if (future.isDone()) {
+            group.forget(this);
+        }
+        return this;
+    }
+
+    @Override
+    public void run() {
+        if (group.isCancelled()) return;
+
+        try {
+            action.run();
+        } catch (Throwable t) {
+            // Упавшая периодическая задача больше не запускается — группе она не нужна
+            group.forget(this);
+            throw t;
+        }
+        if (!periodic) {
+            group.forget(this);
+        }
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+        return future.getDelay(unit);
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+        return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        group.forget(this);
+        return future.cancel(mayInterruptIfRunning);
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return future.isCancelled();
+    }
+
+    @Override
+    public boolean isDone() {
+        return future.isDone();
+    }
+
+    @Override
+    public Object get() throws InterruptedException, ExecutionException {
+        return future.get();
+    }
+
+    @Override
+    public Object get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+        return future.get(timeout, unit);
+    }
+}
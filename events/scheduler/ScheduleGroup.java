@@ -0,0 +1,86 @@
+package uwu.events.scheduler;
+
+import uwu.events.core.Event;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Группа задач одного планировщика, отменяемая целиком одним вызовом.
+ * cancelAll() выставляет флаг, после которого ни одна задача группы ничего не отправит,
+ * и снимает отложенные и fixed-delay задачи из очереди. Объединённые fixed-rate задачи
+ * убирает их таймер на ближайшем тике.
+ */
+public final class ScheduleGroup {
+
+    /**
+     * Пример использования:
+     * <pre>
+     * ScheduleGroup playerTasks = scheduler.group();
+     * playerTasks.scheduleAtFixedRate(() -> new RegenEvent(player), 0, 1, TimeUnit.SECONDS);
+     * playerTasks.schedule(() -> new KickEvent(player), 5, TimeUnit.MINUTES);
+     * // игрок вышел
+     * playerTasks.cancelAll();
+     * </pre>
+     */
+    private final EventScheduler scheduler;
+    // Отложенные и fixed-delay задачи, которые ещё могут сработать
+    private final Set<GroupTask> pending = ConcurrentHashMap.newKeySet();
+    private volatile boolean cancelled = false;
+
+    ScheduleGroup(EventScheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    public ScheduledFuture<?> schedule(Supplier<Event> eventSupplier, long delay, TimeUnit unit) {
+        checkActive();
+        return scheduler.schedule(this, eventSupplier, delay, unit);
+    }
+
+    public ScheduledFuture<?> scheduleAtFixedRate(Supplier<Event> eventSupplier,
+                                                  long initialDelay,
+                                                  long period,
+                                                  TimeUnit unit) {
+        checkActive();
+        return scheduler.scheduleAtFixedRate(this, eventSupplier, initialDelay, period, unit);
+    }
+
+    public ScheduledFuture<?> scheduleWithFixedDelay(Supplier<Event> eventSupplier,
+                                                     long initialDelay,
+                                                     long delay,
+                                                     TimeUnit unit) {
+        checkActive();
+        return scheduler.scheduleWithFixedDelay(this, eventSupplier, initialDelay, delay, unit);
+    }
+
+    /**
+     * Отменить все задачи группы. Новые задачи в отменённую группу добавить нельзя.
+     */
+    public void cancelAll() {
+        cancelled = true;
+        for (GroupTask task : pending) {
+            task.cancel(false);
+        }
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    void track(GroupTask task) {
+        pending.add(task);
+    }
+
+    void forget(GroupTask task) {
+        pending.remove(task);
+    }
+
+    private void checkActive() {
+        if (cancelled) {
+            throw new IllegalStateException("Schedule group is cancelled");
+        }
+    }
+}
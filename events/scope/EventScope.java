@@ -2,9 +2,13 @@ package uwu.events.scope;
 
 import uwu.events.bus.EventBus;
 import uwu.events.bus.EventListener;
+import uwu.events.bus.ListenerGate;
+import uwu.events.bus.Priority;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Consumer;
 
 /**
@@ -21,8 +25,9 @@ public class EventScope implements AutoCloseable {
      *      }
      *      </pre>
      * */
-    private final List<EventListener<?>> listeners = new ArrayList<>();
+    private final Set<EventListener<?>> listeners = new LinkedHashSet<>();
     private final EventBus eventBus;
+    private final ListenerGate gate = new ListenerGate();
     private boolean closed = false;
 
     public EventScope() {
@@ -34,15 +39,20 @@ public class EventScope implements AutoCloseable {
     }
 
     public <T> EventListener<T> subscribe(Class<T> eventType, Consumer<T> handler) {
-        checkClosed();
-        EventListener<T> listener = eventBus.subscribe(eventType, handler);
-        listeners.add(listener);
-        return listener;
+        return subscribe(eventType, handler, Priority.NORMAL);
     }
 
     public <T> EventListener<T> subscribe(Class<T> eventType, Consumer<T> handler, int priority) {
         checkClosed();
-        EventListener<T> listener = eventBus.subscribe(eventType, handler, priority);
+        List<EventListener<T>> created = new ArrayList<>(1);
+        // Шлюз выставляется до публикации слушателя, иначе он мог бы сработать в приостановленной области
+        eventBus.registerBatch(batch -> {
+            EventListener<T> listener = batch.subscribe(eventType, handler, priority);
+            listener.setGate(gate);
+            created.add(listener);
+        });
+
+        EventListener<T> listener = created.get(0);
         listeners.add(listener);
         return listener;
     }
@@ -53,6 +63,26 @@ public class EventScope implements AutoCloseable {
         listeners.remove(listener);
     }
 
+    /**
+     * Приостановить все подписки области без отписки от EventBus.
+     */
+    public void suspend() {
+        checkClosed();
+        gate.suspend();
+    }
+
+    /**
+     * Возобновить приостановленные подписки.
+     */
+    public void resume() {
+        checkClosed();
+        gate.resume();
+    }
+
+    public boolean isSuspended() {
+        return gate.isSuspended();
+    }
+
     private void checkClosed() {
         if (closed) {
             throw new IllegalStateException("EventScope is already closed");
@@ -63,9 +93,8 @@ public class EventScope implements AutoCloseable {
     public void close() {
         if (!closed) {
             closed = true;
-            for (EventListener<?> listener : listeners) {
-                eventBus.unsubscribe(listener);
-            }
+            // Одна пачка: по одному проходу на каждый тип события
+            eventBus.registerBatch(batch -> listeners.forEach(batch::unsubscribe));
             listeners.clear();
         }
     }